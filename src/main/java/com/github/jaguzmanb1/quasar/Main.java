@@ -3,13 +3,11 @@ package com.github.jaguzmanb1.quasar;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
-import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 /**
  * Main class for the Quasar project.
  */
 @SpringBootApplication(exclude = {DataSourceAutoConfiguration.class })
-@EnableJpaRepositories(basePackages = "com.github.jaguzmanb1.quasar.repository")
 public class Main {
     public static void main(String[] args) {
         SpringApplication.run(Main.class, args);
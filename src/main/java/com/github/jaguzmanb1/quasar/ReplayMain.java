@@ -0,0 +1,119 @@
+package com.github.jaguzmanb1.quasar;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.jaguzmanb1.quasar.service.location.GdopLocationCalculator;
+import com.github.jaguzmanb1.quasar.service.location.GdopTripleSelector;
+import com.github.jaguzmanb1.quasar.service.location.LeastSquaresMultilaterationCalculator;
+import com.github.jaguzmanb1.quasar.service.location.LocationCalculatorInterface;
+import com.github.jaguzmanb1.quasar.service.location.TrilaterationCalculator;
+import com.github.jaguzmanb1.quasar.service.messages.AlignedMessageDecoder;
+import com.github.jaguzmanb1.quasar.service.messages.DefaultMessageDecoder;
+import com.github.jaguzmanb1.quasar.service.messages.LinearMessageDecoder;
+import com.github.jaguzmanb1.quasar.service.messages.MessageDecoderInterface;
+import com.github.jaguzmanb1.quasar.service.replay.FixArchiveReplayer;
+import com.github.jaguzmanb1.quasar.service.replay.ReplayReport;
+
+import java.awt.*;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Command-line entry point that replays an NDJSON archive of top-secret requests offline, without starting
+ * the application context or touching the database.
+ * <p>
+ * Usage: {@code ReplayMain <input> <output> [--key=value ...]}, where the options use the same names as the
+ * application properties: {@code location.calculator}, {@code location.least-squares.*}, {@code location.gdop.*},
+ * {@code location.trilateration.max-constellations}, {@code message.decoder},
+ * {@code message.decoder.alignment}, plus {@code replay.threads}, {@code replay.chunk-mb} and
+ * {@code replay.satellites} ({@code name:x:y,...}, defaulting to the seeded constellation).
+ */
+public final class ReplayMain {
+
+    private static final String DEFAULT_SATELLITES = "kenobi:-500:-200,skywalker:100:-100,sato:500:100";
+
+    private ReplayMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: ReplayMain <input> <output> [--key=value ...]");
+            System.exit(2);
+        }
+
+        Map<String, String> options = new HashMap<>();
+        for (int i = 2; i < args.length; i++) {
+            String arg = args[i];
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Invalid option: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        int threads = Integer.parseInt(options.getOrDefault("replay.threads",
+                Integer.toString(Runtime.getRuntime().availableProcessors())));
+        long chunkSize = Long.parseLong(options.getOrDefault("replay.chunk-mb", "64")) * 1024 * 1024;
+
+        FixArchiveReplayer replayer = new FixArchiveReplayer(
+                locationCalculator(options),
+                messageDecoder(options),
+                satellites(options.getOrDefault("replay.satellites", DEFAULT_SATELLITES)),
+                new ObjectMapper(),
+                threads,
+                chunkSize,
+                !isLeastSquares(options));
+
+        ReplayReport report = replayer.replay(Path.of(args[0]), Path.of(args[1]));
+        System.out.println(report);
+    }
+
+    private static LocationCalculatorInterface locationCalculator(Map<String, String> options) {
+        if (isLeastSquares(options)) {
+            return new LeastSquaresMultilaterationCalculator(
+                    Integer.parseInt(options.getOrDefault("location.least-squares.max-iterations", "20")),
+                    Double.parseDouble(options.getOrDefault("location.least-squares.tolerance", "1e-6")),
+                    Double.parseDouble(options.getOrDefault("location.least-squares.max-residual", "10.0")));
+        }
+        return new GdopLocationCalculator(
+                new TrilaterationCalculator(Integer.parseInt(options.getOrDefault(
+                        "location.trilateration.max-constellations",
+                        Integer.toString(TrilaterationCalculator.DEFAULT_MAX_CONSTELLATIONS)))),
+                new GdopTripleSelector(
+                        Integer.parseInt(options.getOrDefault("location.gdop.max-constellations", "1024")),
+                        Integer.parseInt(options.getOrDefault("location.gdop.candidates", "3"))));
+    }
+
+    /**
+     * Indicates whether fixes are solved by least squares. Otherwise three-satellite fixes are trilaterated,
+     * which the replayer can do in bulk.
+     */
+    private static boolean isLeastSquares(Map<String, String> options) {
+        return "least-squares".equalsIgnoreCase(options.getOrDefault("location.calculator", "trilateration"));
+    }
+
+    private static MessageDecoderInterface messageDecoder(Map<String, String> options) {
+        String decoder = options.getOrDefault("message.decoder", "linear");
+        if ("default".equalsIgnoreCase(decoder)) {
+            return new DefaultMessageDecoder();
+        }
+        if ("aligned".equalsIgnoreCase(decoder)) {
+            String alignment = options.getOrDefault("message.decoder.alignment", "right");
+            return new AlignedMessageDecoder(AlignedMessageDecoder.Alignment.valueOf(alignment.toUpperCase()));
+        }
+        return new LinearMessageDecoder();
+    }
+
+    private static Map<String, Point> satellites(String spec) {
+        Map<String, Point> positions = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid satellite: " + entry);
+            }
+            positions.put(parts[0], new Point(Integer.parseInt(parts[1]), Integer.parseInt(parts[2])));
+        }
+        return positions;
+    }
+}
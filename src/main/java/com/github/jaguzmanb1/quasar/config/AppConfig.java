@@ -1,9 +1,32 @@
 package com.github.jaguzmanb1.quasar.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.jaguzmanb1.quasar.repository.SatelliteRepositoryInterface;
+import com.github.jaguzmanb1.quasar.service.cache.TopSecretResponseCache;
+import com.github.jaguzmanb1.quasar.service.history.FixHistoryRecorder;
+import com.github.jaguzmanb1.quasar.service.history.JdbcFixHistoryWriter;
+import com.github.jaguzmanb1.quasar.service.location.GdopLocationCalculator;
+import com.github.jaguzmanb1.quasar.service.location.GdopTripleSelector;
+import com.github.jaguzmanb1.quasar.service.location.LeastSquaresMultilaterationCalculator;
 import com.github.jaguzmanb1.quasar.service.location.LocationCalculatorInterface;
+import com.github.jaguzmanb1.quasar.service.location.TimedLocationCalculator;
 import com.github.jaguzmanb1.quasar.service.location.TrilaterationCalculator;
+import com.github.jaguzmanb1.quasar.service.messages.AlignedMessageDecoder;
 import com.github.jaguzmanb1.quasar.service.messages.DefaultMessageDecoder;
+import com.github.jaguzmanb1.quasar.service.messages.LinearMessageDecoder;
 import com.github.jaguzmanb1.quasar.service.messages.MessageDecoderInterface;
+import com.github.jaguzmanb1.quasar.service.messages.TimedMessageDecoder;
+import com.github.jaguzmanb1.quasar.service.registry.SatelliteRegistry;
+import com.github.jaguzmanb1.quasar.service.split.JournalSplitStatePersister;
+import com.github.jaguzmanb1.quasar.service.split.RepositorySplitStatePersister;
+import com.github.jaguzmanb1.quasar.service.split.SplitEventPublisher;
+import com.github.jaguzmanb1.quasar.service.split.SplitSessionTable;
+import com.github.jaguzmanb1.quasar.service.split.SplitStatePersisterInterface;
+import com.github.jaguzmanb1.quasar.service.split.SplitStateStore;
+import com.github.jaguzmanb1.quasar.service.track.ShipTrackTable;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.core.env.Environment;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -11,7 +34,12 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
 import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 
 @Configuration
@@ -21,31 +49,169 @@ public class AppConfig {
     private Environment env;
 
     @Bean
-    public LocationCalculatorInterface locationCalculator() {
-        return new TrilaterationCalculator();
+    public LocationCalculatorInterface locationCalculator(MeterRegistry meterRegistry, GdopTripleSelector gdopTripleSelector) {
+        return new TimedLocationCalculator(createLocationCalculator(gdopTripleSelector), meterRegistry);
     }
 
     @Bean
-    public MessageDecoderInterface messageDecoder() {
-        return new DefaultMessageDecoder();
+    public GdopTripleSelector gdopTripleSelector() {
+        return new GdopTripleSelector(
+                env.getProperty("location.gdop.max-constellations", Integer.class, 1024),
+                env.getProperty("location.gdop.candidates", Integer.class, 3));
     }
 
     @Bean
-    public DataSource dataSource() {
-        final DriverManagerDataSource dataSource = new DriverManagerDataSource();
+    public MessageDecoderInterface messageDecoder(MeterRegistry meterRegistry) {
+        return new TimedMessageDecoder(createMessageDecoder(), meterRegistry);
+    }
+
+    private LocationCalculatorInterface createLocationCalculator(GdopTripleSelector gdopTripleSelector) {
+        String calculator = env.getProperty("location.calculator", "trilateration");
+
+        if ("least-squares".equalsIgnoreCase(calculator)) {
+            return new LeastSquaresMultilaterationCalculator(
+                    env.getProperty("location.least-squares.max-iterations", Integer.class, 20),
+                    env.getProperty("location.least-squares.tolerance", Double.class, 1e-6),
+                    env.getProperty("location.least-squares.max-residual", Double.class, 10.0));
+        }
+
+        return new GdopLocationCalculator(new TrilaterationCalculator(
+                env.getProperty("location.trilateration.max-constellations", Integer.class,
+                        TrilaterationCalculator.DEFAULT_MAX_CONSTELLATIONS)), gdopTripleSelector);
+    }
+
+    private MessageDecoderInterface createMessageDecoder() {
+        String decoder = env.getProperty("message.decoder", "linear");
+
+        if ("default".equalsIgnoreCase(decoder)) {
+            return new DefaultMessageDecoder();
+        }
+
+        if ("aligned".equalsIgnoreCase(decoder)) {
+            String alignment = env.getProperty("message.decoder.alignment", "right");
+            return new AlignedMessageDecoder(AlignedMessageDecoder.Alignment.valueOf(alignment.toUpperCase()));
+        }
+
+        return new LinearMessageDecoder();
+    }
+
+    @Bean
+    public SatelliteRegistry satelliteRegistry(SatelliteRepositoryInterface satelliteRepository) {
+        return new SatelliteRegistry(satelliteRepository);
+    }
+
+    @Bean(destroyMethod = "close")
+    public SplitStateStore splitStateStore(SplitStatePersisterInterface splitStatePersister) {
+        return new SplitStateStore(splitStatePersister,
+                Executors.newSingleThreadExecutor(threadFactory("split-persistence")));
+    }
+
+    @Bean
+    public SplitStatePersisterInterface splitStatePersister(SatelliteRegistry satelliteRegistry) {
+        String persistence = env.getProperty("split.persistence", "database");
+
+        if ("journal".equalsIgnoreCase(persistence)) {
+            return new JournalSplitStatePersister(
+                    Path.of(env.getProperty("split.journal.directory", "./split-journal")),
+                    env.getProperty("split.journal.compact-threshold", Integer.class, 10000),
+                    Duration.ofMillis(env.getProperty("split.journal.sync-interval-ms", Long.class, 100L)),
+                    threadFactory("split-journal-sync"));
+        }
+
+        return new RepositorySplitStatePersister(satelliteRegistry,
+                List.of(env.getProperty("split.satellites", String[].class, new String[]{"kenobi", "skywalker", "sato"})));
+    }
 
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public FixHistoryRecorder fixHistoryRecorder(DataSource dataSource, ObjectMapper objectMapper) {
+        return new FixHistoryRecorder(new JdbcFixHistoryWriter(dataSource, objectMapper.getFactory()),
+                env.getProperty("fix-history.queue-capacity", Integer.class, 10000),
+                env.getProperty("fix-history.batch-size", Integer.class, 500),
+                Duration.ofMillis(env.getProperty("fix-history.flush-interval-ms", Long.class, 1000L)),
+                Duration.ofMillis(env.getProperty("fix-history.enqueue-timeout-ms", Long.class, 50L)),
+                threadFactory("fix-history"));
+    }
+
+    /**
+     * Creates the thread factory used for background persistence work. When
+     * {@code spring.threads.virtual.enabled} is set, requests are served on virtual threads and the
+     * background writers use them too, so that the whole application blocks on JDBC the same way.
+     */
+    private ThreadFactory threadFactory(String name) {
+        if (env.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            return Thread.ofVirtual().name(name + "-", 0).factory();
+        }
+        return Thread.ofPlatform().name(name + "-", 0).factory();
+    }
+
+    @Bean
+    public SplitSessionTable splitSessionTable() {
+        return new SplitSessionTable(
+                env.getProperty("split.sessions.max", Integer.class, 10000),
+                Duration.ofSeconds(env.getProperty("split.sessions.ttl-seconds", Long.class, 300L)));
+    }
+
+    @Bean
+    public SplitEventPublisher splitEventPublisher() {
+        return new SplitEventPublisher(env.getProperty("split.events.timeout-ms", Long.class, 1800000L));
+    }
+
+    @Bean
+    public TopSecretResponseCache topSecretResponseCache() {
+        return new TopSecretResponseCache(
+                env.getProperty("topsecret.cache.max-entries", Integer.class, 10000),
+                Duration.ofSeconds(env.getProperty("topsecret.cache.ttl-seconds", Long.class, 60L)));
+    }
+
+    @Bean
+    public ShipTrackTable shipTrackTable() {
+        return new ShipTrackTable(
+                env.getProperty("track.ships.max", Integer.class, 10000),
+                Duration.ofSeconds(env.getProperty("track.ships.ttl-seconds", Long.class, 600L)),
+                env.getProperty("track.process-noise", Double.class, 1.0),
+                env.getProperty("track.measurement-sigma", Double.class, 1.0),
+                env.getProperty("track.gate-sigmas", Double.class, 4.0),
+                env.getProperty("track.initial-velocity-sigma", Double.class, 50.0));
+    }
+
+    @Bean
+    public StartupTimeListener startupTimeListener() {
+        return new StartupTimeListener(Duration.ofMillis(env.getProperty("startup.target-ms", Long.class, 5000L)));
+    }
+
+    @Bean
+    public DataSource dataSource() {
         String url = env.getProperty("url");
 
         if (url == null || url.trim().isEmpty()) {
             url = "jdbc:sqlite:./database.db";
         }
 
-        dataSource.setDriverClassName(Objects.requireNonNull(env.getProperty("driverClassName")));
-        dataSource.setUrl(url);
-        dataSource.setUsername(env.getProperty("username", "sa"));
-        dataSource.setPassword(env.getProperty("password", "sa"));
+        if (!env.getProperty("pool.enabled", Boolean.class, true)) {
+            final DriverManagerDataSource dataSource = new DriverManagerDataSource();
+            dataSource.setDriverClassName(Objects.requireNonNull(env.getProperty("driverClassName")));
+            dataSource.setUrl(url);
+            dataSource.setUsername(env.getProperty("username", "sa"));
+            dataSource.setPassword(env.getProperty("password", "sa"));
+            return dataSource;
+        }
+
+        final HikariConfig config = new HikariConfig();
+        config.setPoolName("quasar");
+        config.setDriverClassName(Objects.requireNonNull(env.getProperty("driverClassName")));
+        config.setJdbcUrl(url);
+        config.setUsername(env.getProperty("username", "sa"));
+        config.setPassword(env.getProperty("password", "sa"));
+        config.setMaximumPoolSize(env.getProperty("pool.maximum-size", Integer.class, 4));
+        config.setMinimumIdle(env.getProperty("pool.minimum-idle", Integer.class, 1));
+        config.setConnectionTimeout(env.getProperty("pool.connection-timeout-ms", Long.class, 30000L));
+
+        // SQLite pragmas applied by the driver on every new connection
+        config.addDataSourceProperty("journal_mode", env.getProperty("sqlite.journal-mode", "WAL"));
+        config.addDataSourceProperty("synchronous", env.getProperty("sqlite.synchronous", "NORMAL"));
+        config.addDataSourceProperty("busy_timeout", env.getProperty("sqlite.busy-timeout-ms", "5000"));
 
-        return dataSource;
+        return new HikariDataSource(config);
     }
 
 }
@@ -0,0 +1,44 @@
+package com.github.jaguzmanb1.quasar.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.time.Duration;
+
+/**
+ * Reports how long the application took to become ready to serve requests and warns when it exceeds the
+ * configured startup target. The same value is published by Spring Boot as the {@code application.ready.time}
+ * metric, so the target can also be tracked from the metrics endpoint.
+ */
+public class StartupTimeListener implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimeListener.class);
+
+    private final Duration target;
+
+    /**
+     * Creates a listener.
+     *
+     * @param target The startup time the application is expected to stay under.
+     */
+    public StartupTimeListener(Duration target) {
+        this.target = target;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        Duration timeTaken = event.getTimeTaken();
+        if (timeTaken == null) {
+            return;
+        }
+
+        if (timeTaken.compareTo(target) > 0) {
+            log.warn("Application ready in {} ms, over the startup target of {} ms",
+                    timeTaken.toMillis(), target.toMillis());
+        } else {
+            log.info("Application ready in {} ms (startup target {} ms)", timeTaken.toMillis(), target.toMillis());
+        }
+    }
+}
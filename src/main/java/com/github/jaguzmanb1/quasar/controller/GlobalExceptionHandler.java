@@ -1,6 +1,11 @@
 package com.github.jaguzmanb1.quasar.controller;
 
 import com.github.jaguzmanb1.quasar.exception.InvalidIntersectionException;
+import com.github.jaguzmanb1.quasar.exception.InvalidMessageException;
+import com.github.jaguzmanb1.quasar.exception.InvalidSearchAreaException;
+import com.github.jaguzmanb1.quasar.exception.InvalidSessionIdException;
+import com.github.jaguzmanb1.quasar.exception.SatelliteNotFoundException;
+import com.github.jaguzmanb1.quasar.exception.SessionNotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -28,6 +33,66 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage());
     }
 
+    /**
+     * Handles exceptions of type InvalidMessageException.
+     * Returns a NOT_FOUND (404) HTTP status with the corresponding error message.
+     *
+     * @param ex the InvalidMessageException thrown by the application
+     * @return a ResponseEntity containing the error message and HTTP status
+     */
+    @ExceptionHandler(InvalidMessageException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidMessage(InvalidMessageException ex) {
+        return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    /**
+     * Handles exceptions of type SatelliteNotFoundException.
+     * Returns a NOT_FOUND (404) HTTP status with the corresponding error message.
+     *
+     * @param ex the SatelliteNotFoundException thrown by the application
+     * @return a ResponseEntity containing the error message and HTTP status
+     */
+    @ExceptionHandler(SatelliteNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleSatelliteNotFound(SatelliteNotFoundException ex) {
+        return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    /**
+     * Handles exceptions of type SessionNotFoundException.
+     * Returns a NOT_FOUND (404) HTTP status with the corresponding error message.
+     *
+     * @param ex the SessionNotFoundException thrown by the application
+     * @return a ResponseEntity containing the error message and HTTP status
+     */
+    @ExceptionHandler(SessionNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleSessionNotFound(SessionNotFoundException ex) {
+        return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    /**
+     * Handles exceptions of type InvalidSessionIdException.
+     * Returns a BAD_REQUEST (400) HTTP status with the corresponding error message.
+     *
+     * @param ex the InvalidSessionIdException thrown when a split session is given a reserved id
+     * @return a ResponseEntity containing the error message and HTTP status
+     */
+    @ExceptionHandler(InvalidSessionIdException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidSessionId(InvalidSessionIdException ex) {
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    /**
+     * Handles exceptions of type InvalidSearchAreaException.
+     * Returns a BAD_REQUEST (400) HTTP status with the corresponding error message.
+     *
+     * @param ex the InvalidSearchAreaException thrown when a satellite search is given an invalid area
+     * @return a ResponseEntity containing the error message and HTTP status
+     */
+    @ExceptionHandler(InvalidSearchAreaException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidSearchArea(InvalidSearchAreaException ex) {
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
     /**
      * Handles exceptions of type MethodArgumentNotValidException.
      * Returns a BAD_REQUEST (400) HTTP status with the validation error message.
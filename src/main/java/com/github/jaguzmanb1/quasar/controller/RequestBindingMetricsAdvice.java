@@ -0,0 +1,75 @@
+package com.github.jaguzmanb1.quasar.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long it takes to read and bind each JSON request body, tagged by the type it is bound to.
+ * This isolates the cost of deserialization from the rest of the request, which is already covered by
+ * the {@code http.server.requests} timer. The timer of each type is registered once and reused, so binding a
+ * request does not go through the meter registry.
+ */
+@ControllerAdvice
+public class RequestBindingMetricsAdvice extends RequestBodyAdviceAdapter {
+
+    private static final String START_ATTRIBUTE = RequestBindingMetricsAdvice.class.getName() + ".start";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for RequestBindingMetricsAdvice.
+     *
+     * @param meterRegistry The registry where the binding times are recorded.
+     */
+    public RequestBindingMetricsAdvice(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                           Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(START_ATTRIBUTE, System.nanoTime(), RequestAttributes.SCOPE_REQUEST);
+        }
+        return inputMessage;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && attributes.getAttribute(START_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                instanceof Long start) {
+            timers.computeIfAbsent(parameter.getParameterType(), this::timer)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return body;
+    }
+
+    private Timer timer(Class<?> type) {
+        return Timer.builder("quasar.request.binding")
+                .description("Time spent reading and binding a request body")
+                .tag("type", type.getSimpleName())
+                .register(meterRegistry);
+    }
+}
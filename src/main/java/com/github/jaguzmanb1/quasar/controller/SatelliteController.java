@@ -0,0 +1,109 @@
+package com.github.jaguzmanb1.quasar.controller;
+
+import com.github.jaguzmanb1.quasar.dto.SatellitePositionDTO;
+import com.github.jaguzmanb1.quasar.entity.Satellite;
+import com.github.jaguzmanb1.quasar.service.SatelliteService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.awt.*;
+import java.util.List;
+
+/**
+ * REST controller for managing the satellites of the constellation.
+ */
+@RestController
+@RequestMapping("/satellites")
+public class SatelliteController {
+
+    private final SatelliteService satelliteService;
+
+    /**
+     * Constructor for SatelliteController.
+     *
+     * @param satelliteService The service responsible for managing the constellation.
+     */
+    public SatelliteController(SatelliteService satelliteService) {
+        this.satelliteService = satelliteService;
+    }
+
+    /**
+     * Retrieves a list of all available satellites.
+     *
+     * @return ResponseEntity containing the list of stored satellites.
+     */
+    @GetMapping
+    public ResponseEntity<List<Satellite>> getSatellites() {
+        return ResponseEntity.ok(satelliteService.getSatellites());
+    }
+
+    /**
+     * Retrieves the satellites within a distance of a point, nearest first.
+     *
+     * @param x X coordinate of the center.
+     * @param y Y coordinate of the center.
+     * @param radius Maximum distance from the center.
+     * @return ResponseEntity containing the satellites found.
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<Satellite>> getSatellitesNearby(@RequestParam("x") double x,
+                                                               @RequestParam("y") double y,
+                                                               @RequestParam("radius") double radius) {
+        return ResponseEntity.ok(satelliteService.getSatellitesWithinRange(x, y, radius));
+    }
+
+    /**
+     * Retrieves the satellites inside a rectangular region.
+     *
+     * @param minX Smallest X coordinate.
+     * @param minY Smallest Y coordinate.
+     * @param maxX Largest X coordinate.
+     * @param maxY Largest Y coordinate.
+     * @return ResponseEntity containing the satellites found.
+     */
+    @GetMapping("/region")
+    public ResponseEntity<List<Satellite>> getSatellitesInRegion(@RequestParam("min_x") double minX,
+                                                                 @RequestParam("min_y") double minY,
+                                                                 @RequestParam("max_x") double maxX,
+                                                                 @RequestParam("max_y") double maxY) {
+        return ResponseEntity.ok(satelliteService.getSatellitesInRegion(minX, minY, maxX, maxY));
+    }
+
+    /**
+     * Retrieves a satellite by name.
+     *
+     * @param satelliteName The name of the satellite.
+     * @return ResponseEntity containing the satellite.
+     */
+    @GetMapping("/{satellite_name}")
+    public ResponseEntity<Satellite> getSatellite(@PathVariable("satellite_name") String satelliteName) {
+        return ResponseEntity.ok(satelliteService.getSatellite(satelliteName));
+    }
+
+    /**
+     * Registers a satellite, or moves it if it is already registered.
+     *
+     * @param satelliteName The name of the satellite.
+     * @param position The position of the satellite.
+     * @return ResponseEntity containing the saved satellite.
+     */
+    @PutMapping("/{satellite_name}")
+    public ResponseEntity<Satellite> saveSatellite(@PathVariable("satellite_name") String satelliteName,
+                                                   @Valid @RequestBody SatellitePositionDTO position) {
+        return ResponseEntity.ok(satelliteService.saveSatellite(satelliteName,
+                new Point(position.getX(), position.getY())));
+    }
+
+    /**
+     * Removes a satellite from the constellation.
+     *
+     * @param satelliteName The name of the satellite.
+     * @return An empty ResponseEntity.
+     */
+    @DeleteMapping("/{satellite_name}")
+    public ResponseEntity<Void> deleteSatellite(@PathVariable("satellite_name") String satelliteName) {
+        satelliteService.deleteSatellite(satelliteName);
+        return ResponseEntity.noContent().build();
+    }
+}
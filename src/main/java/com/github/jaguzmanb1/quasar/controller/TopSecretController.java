@@ -1,16 +1,23 @@
 package com.github.jaguzmanb1.quasar.controller;
 
 import com.github.jaguzmanb1.quasar.dto.SpaceShipInfoDTO;
+import com.github.jaguzmanb1.quasar.dto.TopSecretBatchRequestDTO;
+import com.github.jaguzmanb1.quasar.dto.TopSecretBatchResponseDTO;
 import com.github.jaguzmanb1.quasar.dto.TopSecretResponseDTO;
+import com.github.jaguzmanb1.quasar.dto.TopSecretTrackResponseDTO;
 import com.github.jaguzmanb1.quasar.dto.TopSecretRequestDTO;
-import com.github.jaguzmanb1.quasar.entity.Satellite;
+import com.github.jaguzmanb1.quasar.service.TopSecretStreamService;
+import com.github.jaguzmanb1.quasar.service.TrackingService;
 import com.github.jaguzmanb1.quasar.service.TranslationService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.Pattern;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 
 /**
@@ -23,14 +30,21 @@ import java.util.Map;
 public class TopSecretController {
 
     private final TranslationService translationService;
+    private final TopSecretStreamService topSecretStreamService;
+    private final TrackingService trackingService;
 
     /**
      * Constructor for TopSecretController.
      *
      * @param translationService The service responsible for processing satellite data.
+     * @param topSecretStreamService The service responsible for processing NDJSON feeds.
+     * @param trackingService The service responsible for tracking ships.
      */
-    public TopSecretController(TranslationService translationService) {
+    public TopSecretController(TranslationService translationService, TopSecretStreamService topSecretStreamService,
+                               TrackingService trackingService) {
         this.translationService = translationService;
+        this.topSecretStreamService = topSecretStreamService;
+        this.trackingService = trackingService;
     }
 
     /**
@@ -46,27 +60,56 @@ public class TopSecretController {
     }
 
     /**
-     * Retrieves a list of all available satellites from the database.
+     * Receives a batch of independent fixes and solves all of them in a single round-trip.
+     * Fixes that cannot be solved are reported individually without failing the whole batch.
      *
-     * @return ResponseEntity containing the list of stored satellites.
+     * @param request The request containing the list of fixes.
+     * @return ResponseEntity containing one result per fix, in request order.
      */
-    @GetMapping("/satellites")
-    public ResponseEntity<List<Satellite>> getSatellites() {
-        return ResponseEntity.ok(translationService.getSatellites());
+    @PostMapping("/topsecret/batch")
+    public ResponseEntity<TopSecretBatchResponseDTO> topSecretBatch(@Valid @RequestBody TopSecretBatchRequestDTO request) {
+        return ResponseEntity.ok(translationService.returnTopSecretBatchResponse(request.getRequests()));
+    }
+
+    /**
+     * Receives satellite data from a ship being tracked and updates its track.
+     * The first request of a ship is solved like {@code /topsecret}; later ones are fused into the track.
+     *
+     * @param shipId The id of the tracked ship.
+     * @param request The request containing a list of satellite data.
+     * @return ResponseEntity containing the filtered position, velocity and decoded message.
+     */
+    @PostMapping("/topsecret/track/{ship_id}")
+    public ResponseEntity<TopSecretTrackResponseDTO> topSecretTrack(@PathVariable("ship_id") String shipId,
+                                                                    @Valid @RequestBody TopSecretRequestDTO request) {
+        return ResponseEntity.ok(trackingService.track(shipId, request.getSatellites()));
+    }
+
+    /**
+     * Receives a newline-delimited JSON feed of requests and streams back one result per line as each
+     * request is solved. The body is never buffered as a whole, so feeds of any size use constant memory.
+     *
+     * @param input The request body, containing one top-secret request per line.
+     * @param response The response the NDJSON results are written to.
+     * @throws IOException if reading the feed or writing the results fails.
+     */
+    @PostMapping(value = "/topsecret/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void topSecretStream(InputStream input, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        topSecretStreamService.process(input, response.getOutputStream());
     }
 
     /**
      * Updates the stored data of a specific satellite.
      * This is part of the "/topsecret_split" flow, where satellite data is received separately.
      *
-     * @param satelliteName The name of the satellite to update (Kenobi, Skywalker, or Sato).
+     * @param satelliteName The name of the satellite to update.
      * @param spaceShipInfo The new data containing distance and received message.
      * @return ResponseEntity with a success message.
      */
     @PostMapping("/topsecret_split/{satellite_name}")
     public ResponseEntity<Map<String, String>> updateSatelliteInfo(
-            @PathVariable("satellite_name")
-            @Pattern(regexp = "(?i)kenobi|skywalker|sato", message = "Invalid satellite name") String satelliteName,
+            @PathVariable("satellite_name") String satelliteName,
             @Valid @RequestBody SpaceShipInfoDTO spaceShipInfo) {
 
         translationService.updateSatelliteInfo(satelliteName, spaceShipInfo);
@@ -83,4 +126,56 @@ public class TopSecretController {
     public ResponseEntity<TopSecretResponseDTO> getSatelliteSplitInfo() {
         return ResponseEntity.ok(translationService.returnSplitTopSecretResponse());
     }
+
+    /**
+     * Subscribes to the split-mode solutions over Server-Sent Events.
+     * A new solution is pushed as soon as the last fragment needed to compute it is received.
+     *
+     * @return The emitter streaming the solutions.
+     */
+    @GetMapping(value = "/topsecret_split/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeSplitEvents() {
+        return translationService.subscribeToSplitSolutions();
+    }
+
+    /**
+     * Updates the data of a specific satellite within a split session.
+     * Each session tracks a different ship or transmission, so many of them can be reconstructed at once.
+     *
+     * @param sessionId The id of the session.
+     * @param satelliteName The name of the satellite to update.
+     * @param spaceShipInfo The new data containing distance and received message.
+     * @return ResponseEntity with a success message.
+     */
+    @PostMapping("/topsecret_split/{session_id}/{satellite_name}")
+    public ResponseEntity<Map<String, String>> updateSessionSatelliteInfo(
+            @PathVariable("session_id") String sessionId,
+            @PathVariable("satellite_name") String satelliteName,
+            @Valid @RequestBody SpaceShipInfoDTO spaceShipInfo) {
+
+        translationService.updateSessionSatelliteInfo(sessionId, satelliteName, spaceShipInfo);
+        return ResponseEntity.ok(Map.of("message", "OK"));
+    }
+
+    /**
+     * Determines the spaceship's location and decoded message from the data stored in a split session.
+     *
+     * @param sessionId The id of the session.
+     * @return ResponseEntity containing the decoded message and calculated location.
+     */
+    @GetMapping("/topsecret_split/{session_id}")
+    public ResponseEntity<TopSecretResponseDTO> getSessionSplitInfo(@PathVariable("session_id") String sessionId) {
+        return ResponseEntity.ok(translationService.returnSessionTopSecretResponse(sessionId));
+    }
+
+    /**
+     * Subscribes to the solutions of a split session over Server-Sent Events.
+     *
+     * @param sessionId The id of the session.
+     * @return The emitter streaming the solutions.
+     */
+    @GetMapping(value = "/topsecret_split/{session_id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeSessionEvents(@PathVariable("session_id") String sessionId) {
+        return translationService.subscribeToSessionSolutions(sessionId);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.github.jaguzmanb1.quasar.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Data Transfer Object (DTO) representing the position of a satellite being registered or moved.
+ */
+public class SatellitePositionDTO {
+
+    /**
+     * X coordinate of the satellite. Cannot be null.
+     */
+    @NotNull(message = "X coordinate cannot be null")
+    private Integer x;
+
+    /**
+     * Y coordinate of the satellite. Cannot be null.
+     */
+    @NotNull(message = "Y coordinate cannot be null")
+    private Integer y;
+
+    /**
+     * Default constructor.
+     */
+    public SatellitePositionDTO() {}
+
+    /**
+     * Parameterized constructor to initialize the position.
+     *
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     */
+    public SatellitePositionDTO(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Gets the X coordinate.
+     *
+     * @return the X coordinate
+     */
+    public Integer getX() {
+        return x;
+    }
+
+    /**
+     * Sets the X coordinate.
+     *
+     * @param x the X coordinate
+     */
+    public void setX(Integer x) {
+        this.x = x;
+    }
+
+    /**
+     * Gets the Y coordinate.
+     *
+     * @return the Y coordinate
+     */
+    public Integer getY() {
+        return y;
+    }
+
+    /**
+     * Sets the Y coordinate.
+     *
+     * @param y the Y coordinate
+     */
+    public void setY(Integer y) {
+        this.y = y;
+    }
+}
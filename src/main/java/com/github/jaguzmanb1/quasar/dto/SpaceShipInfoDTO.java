@@ -62,6 +62,16 @@ public class SpaceShipInfoDTO {
         return distance;
     }
 
+    /**
+     * Indicates whether the distance was provided. Requests that skip bean validation must check it
+     * before calling {@link #getDistance()}.
+     *
+     * @return true if the distance is set
+     */
+    public boolean hasDistance() {
+        return distance != null;
+    }
+
     /**
      * Sets the distance from the spaceship to the reference point.
      *
@@ -0,0 +1,51 @@
+package com.github.jaguzmanb1.quasar.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for handling batched top-secret requests.
+ * This DTO groups several independent fixes so they can be solved in a single round-trip.
+ */
+public class TopSecretBatchRequestDTO {
+
+    /**
+     * List of fixes to be solved. Each element is validated as a regular top-secret request.
+     */
+    @NotEmpty(message = "The list of requests cannot be empty")
+    @Valid
+    private List<TopSecretRequestDTO> requests;
+
+    /**
+     * Default constructor.
+     */
+    public TopSecretBatchRequestDTO() {}
+
+    /**
+     * Constructor to initialize the batch with a list of requests.
+     *
+     * @param requests the list of top-secret requests to be solved
+     */
+    public TopSecretBatchRequestDTO(List<TopSecretRequestDTO> requests) {
+        this.requests = requests;
+    }
+
+    /**
+     * Gets the list of requests.
+     *
+     * @return the list of requests
+     */
+    public List<TopSecretRequestDTO> getRequests() {
+        return requests;
+    }
+
+    /**
+     * Sets the list of requests.
+     *
+     * @param requests the new list of requests
+     */
+    public void setRequests(List<TopSecretRequestDTO> requests) {
+        this.requests = requests;
+    }
+}
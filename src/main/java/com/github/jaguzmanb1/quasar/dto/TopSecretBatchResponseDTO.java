@@ -0,0 +1,42 @@
+package com.github.jaguzmanb1.quasar.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing the response for a batched top-secret request.
+ * Results are returned in the same order as the requests were received.
+ */
+public class TopSecretBatchResponseDTO {
+
+    /**
+     * One result per request, in request order.
+     */
+    private List<TopSecretBatchResultDTO> results;
+
+    /**
+     * Constructor to initialize the response with its results.
+     *
+     * @param results the list of results in request order
+     */
+    public TopSecretBatchResponseDTO(List<TopSecretBatchResultDTO> results) {
+        this.results = results;
+    }
+
+    /**
+     * Gets the list of results.
+     *
+     * @return the list of results
+     */
+    public List<TopSecretBatchResultDTO> getResults() {
+        return results;
+    }
+
+    /**
+     * Sets the list of results.
+     *
+     * @param results the new list of results
+     */
+    public void setResults(List<TopSecretBatchResultDTO> results) {
+        this.results = results;
+    }
+}
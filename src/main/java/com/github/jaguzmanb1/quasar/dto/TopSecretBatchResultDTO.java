@@ -0,0 +1,85 @@
+package com.github.jaguzmanb1.quasar.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.awt.*;
+
+/**
+ * Data Transfer Object (DTO) representing the outcome of a single fix inside a batch.
+ * A result either carries the calculated position and message, or the error that prevented solving it.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TopSecretBatchResultDTO {
+
+    /**
+     * The calculated position, or null if the fix could not be solved.
+     */
+    private Point position;
+
+    /**
+     * The reconstructed message, or null if the fix could not be solved.
+     */
+    private String message;
+
+    /**
+     * The error message explaining why the fix could not be solved, or null on success.
+     */
+    private String error;
+
+    /**
+     * Default constructor.
+     */
+    public TopSecretBatchResultDTO() {}
+
+    /**
+     * Creates a successful result from a top-secret response.
+     *
+     * @param response the solved response
+     * @return a result containing the position and message
+     */
+    public static TopSecretBatchResultDTO success(TopSecretResponseDTO response) {
+        TopSecretBatchResultDTO result = new TopSecretBatchResultDTO();
+        result.position = response.getPosition();
+        result.message = response.getMessage();
+        return result;
+    }
+
+    /**
+     * Creates a failed result.
+     *
+     * @param error the error message
+     * @return a result containing only the error
+     */
+    public static TopSecretBatchResultDTO failure(String error) {
+        TopSecretBatchResultDTO result = new TopSecretBatchResultDTO();
+        result.error = error;
+        return result;
+    }
+
+    /**
+     * Gets the calculated position.
+     *
+     * @return the position, or null if the fix failed
+     */
+    public Point getPosition() {
+        return position;
+    }
+
+    /**
+     * Gets the reconstructed message.
+     *
+     * @return the message, or null if the fix failed
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Gets the error message.
+     *
+     * @return the error, or null if the fix succeeded
+     */
+    public String getError() {
+        return error;
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.jaguzmanb1.quasar.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.awt.*;
 
 /**
@@ -18,6 +20,13 @@ public class TopSecretResponseDTO {
      */
     private String message;
 
+    /**
+     * Root mean square difference between measured and estimated distances.
+     * Only reported when the position was estimated from more than three satellites.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double residual;
+
     /**
      * Constructor to initialize the response DTO with position and message.
      *
@@ -64,4 +73,22 @@ public class TopSecretResponseDTO {
     public void setMessage(String message) {
         this.message = message;
     }
+
+    /**
+     * Gets the residual of the position estimate.
+     *
+     * @return the residual, or null if it was not computed
+     */
+    public Double getResidual() {
+        return residual;
+    }
+
+    /**
+     * Sets the residual of the position estimate.
+     *
+     * @param residual the new residual
+     */
+    public void setResidual(Double residual) {
+        this.residual = residual;
+    }
 }
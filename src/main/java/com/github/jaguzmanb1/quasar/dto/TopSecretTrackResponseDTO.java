@@ -0,0 +1,115 @@
+package com.github.jaguzmanb1.quasar.dto;
+
+import java.awt.*;
+
+/**
+ * Data Transfer Object (DTO) representing the state of a tracked ship after a tracking update.
+ * Besides the position and message, it reports the estimated velocity and how many of the received
+ * distances were consistent with the track.
+ */
+public class TopSecretTrackResponseDTO {
+
+    /**
+     * The filtered position of the ship.
+     */
+    private final Point position;
+
+    /**
+     * The estimated velocity along X, in units per second.
+     */
+    private final double velocityX;
+
+    /**
+     * The estimated velocity along Y, in units per second.
+     */
+    private final double velocityY;
+
+    /**
+     * The reconstructed message from satellite transmissions.
+     */
+    private final String message;
+
+    /**
+     * Number of distances fused into the track.
+     */
+    private final int accepted;
+
+    /**
+     * Number of distances rejected as inconsistent with the track.
+     */
+    private final int rejected;
+
+    /**
+     * Constructor to initialize the response DTO.
+     *
+     * @param position the filtered position of the ship
+     * @param velocityX the estimated velocity along X
+     * @param velocityY the estimated velocity along Y
+     * @param message the reconstructed message
+     * @param accepted the number of distances fused into the track
+     * @param rejected the number of distances rejected
+     */
+    public TopSecretTrackResponseDTO(Point position, double velocityX, double velocityY, String message,
+                                     int accepted, int rejected) {
+        this.position = position;
+        this.velocityX = velocityX;
+        this.velocityY = velocityY;
+        this.message = message;
+        this.accepted = accepted;
+        this.rejected = rejected;
+    }
+
+    /**
+     * Gets the filtered position.
+     *
+     * @return the position as a Point object
+     */
+    public Point getPosition() {
+        return position;
+    }
+
+    /**
+     * Gets the estimated velocity along X.
+     *
+     * @return the velocity, in units per second
+     */
+    public double getVelocityX() {
+        return velocityX;
+    }
+
+    /**
+     * Gets the estimated velocity along Y.
+     *
+     * @return the velocity, in units per second
+     */
+    public double getVelocityY() {
+        return velocityY;
+    }
+
+    /**
+     * Gets the reconstructed message.
+     *
+     * @return the message as a String
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Gets the number of distances fused into the track.
+     *
+     * @return the accepted count
+     */
+    public int getAccepted() {
+        return accepted;
+    }
+
+    /**
+     * Gets the number of distances rejected as inconsistent with the track.
+     *
+     * @return the rejected count
+     */
+    public int getRejected() {
+        return rejected;
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.jaguzmanb1.quasar.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Represents a solved fix stored in the fix history.
+ * <p>
+ * Rows are inserted in batches by {@code JdbcFixHistoryWriter} through plain JDBC and nothing reads them through
+ * JPA, so no repository is declared for this entity. It is kept because the default profile runs with Flyway
+ * disabled and {@code spring.jpa.hibernate.ddl-auto=update}: there Hibernate creates {@code fix_history} from this
+ * mapping, while the {@code prod} profile creates it with the {@code V3} migration. Both definitions must be kept
+ * in sync.
+ */
+@Entity
+@Table(name = "fix_history")
+public class FixHistoryEntry {
+
+    /**
+     * Unique identifier for the entry.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Time at which the fix was solved, in milliseconds since the epoch.
+     */
+    @Column(name = "solved_at", nullable = false)
+    private long solvedAt;
+
+    /**
+     * Readings the fix was solved from, as a JSON array of names, distances and message fragments.
+     */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String satellites;
+
+    /**
+     * X coordinate of the solved position.
+     */
+    @Column(name = "position_x", nullable = false)
+    private int positionX;
+
+    /**
+     * Y coordinate of the solved position.
+     */
+    @Column(name = "position_y", nullable = false)
+    private int positionY;
+
+    /**
+     * Decoded message.
+     */
+    @Column(columnDefinition = "TEXT")
+    private String message;
+
+    /**
+     * Residual of the position estimate, only present when more than three satellites took part in the fix.
+     */
+    private Double residual;
+
+    /**
+     * Default constructor.
+     */
+    public FixHistoryEntry() {}
+
+    /**
+     * Gets the unique identifier of the entry.
+     *
+     * @return The identifier of the entry.
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Gets the time at which the fix was solved.
+     *
+     * @return The solving time, in milliseconds since the epoch.
+     */
+    public long getSolvedAt() {
+        return solvedAt;
+    }
+
+    /**
+     * Gets the readings the fix was solved from.
+     *
+     * @return The readings, as a JSON array.
+     */
+    public String getSatellites() {
+        return satellites;
+    }
+
+    /**
+     * Gets the X coordinate of the solved position.
+     *
+     * @return The X coordinate.
+     */
+    public int getPositionX() {
+        return positionX;
+    }
+
+    /**
+     * Gets the Y coordinate of the solved position.
+     *
+     * @return The Y coordinate.
+     */
+    public int getPositionY() {
+        return positionY;
+    }
+
+    /**
+     * Gets the decoded message.
+     *
+     * @return The decoded message.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Gets the residual of the position estimate.
+     *
+     * @return The residual, or null when the fix was solved from three satellites.
+     */
+    public Double getResidual() {
+        return residual;
+    }
+}
@@ -0,0 +1,129 @@
+package com.github.jaguzmanb1.quasar.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Converts a list of message fragments to a compact length-prefixed binary representation and back.
+ * <p>
+ * Layout: a two byte header ({@code 0x00 0x01}), the number of fragments as an unsigned varint, and then
+ * each fragment as its UTF-8 byte length (unsigned varint) followed by its bytes. Fragments may contain any
+ * character, including commas, and empty fragments keep their position.
+ * <p>
+ * Values written by earlier versions as comma-separated text are still readable: they never start with
+ * the header, so they are decoded as CSV.
+ */
+@Converter
+public class MessageFragmentsConverter implements AttributeConverter<List<String>, byte[]> {
+
+    private static final byte HEADER = 0x00;
+    private static final byte VERSION = 0x01;
+
+    @Override
+    public byte[] convertToDatabaseColumn(List<String> fragments) {
+        return encode(fragments);
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(byte[] data) {
+        return decode(data);
+    }
+
+    /**
+     * Encodes a list of fragments. Null fragments are stored as empty fragments.
+     *
+     * @param fragments The fragments to encode.
+     * @return The encoded fragments, or null if the list is null.
+     */
+    public static byte[] encode(List<String> fragments) {
+        if (fragments == null) {
+            return null;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + fragments.size() * 8);
+        out.write(HEADER);
+        out.write(VERSION);
+        writeVarint(out, fragments.size());
+        for (String fragment : fragments) {
+            byte[] bytes = fragment != null ? fragment.getBytes(StandardCharsets.UTF_8) : new byte[0];
+            writeVarint(out, bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes a list of fragments, accepting both the binary format and legacy comma-separated text.
+     *
+     * @param data The encoded fragments.
+     * @return An unmodifiable list of fragments, or null if the data is null.
+     * @throws IllegalArgumentException if the binary data is truncated or corrupt.
+     */
+    public static List<String> decode(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length < 2 || data[0] != HEADER) {
+            return decodeLegacy(new String(data, StandardCharsets.UTF_8));
+        }
+        if (data[1] != VERSION) {
+            throw new IllegalArgumentException("Unsupported message format version: " + data[1]);
+        }
+
+        int[] position = {2};
+        int count = readVarint(data, position);
+        List<String> fragments = new ArrayList<>(count);
+        for (int k = 0; k < count; k++) {
+            int length = readVarint(data, position);
+            if (length > data.length - position[0]) {
+                throw new IllegalArgumentException("Truncated message data");
+            }
+            fragments.add(new String(data, position[0], length, StandardCharsets.UTF_8));
+            position[0] += length;
+        }
+        return Collections.unmodifiableList(fragments);
+    }
+
+    /**
+     * Decodes a value stored by earlier versions as comma-separated text.
+     */
+    private static List<String> decodeLegacy(String csv) {
+        if (csv.isEmpty()) {
+            return List.of();
+        }
+        return Collections.unmodifiableList(Arrays.asList(csv.split(",", -1)));
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(byte[] data, int[] position) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (position[0] >= data.length) {
+                throw new IllegalArgumentException("Truncated message data");
+            }
+            byte b = data[position[0]++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IllegalArgumentException("Corrupt message data");
+                }
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Corrupt message data");
+    }
+}
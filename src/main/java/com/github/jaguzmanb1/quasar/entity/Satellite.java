@@ -1,8 +1,10 @@
 package com.github.jaguzmanb1.quasar.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.awt.*;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -44,10 +46,12 @@ public class Satellite {
     private Double distance;
 
     /**
-     * Message received by the satellite, stored as a comma-separated string.
+     * Message fragments received by the satellite, stored as a length-prefixed binary blob.
+     * The list is decoded once when the entity is loaded and is never modified afterwards.
      */
+    @Convert(converter = MessageFragmentsConverter.class)
     @Column(name = "received_message")
-    private String receivedMessage;
+    private List<String> receivedMessage;
 
     /**
      * Default constructor.
@@ -67,11 +71,11 @@ public class Satellite {
         this.positionX = position.x;
         this.positionY = position.y;
         this.distance = distance;
-        this.receivedMessage = receivedMessage != null ? String.join(",", receivedMessage) : null;
+        this.receivedMessage = copyOf(receivedMessage);
     }
 
     /**
-     * Constructs a Satellite object with a name and position. Distance is initialized to 0 and message to an empty string.
+     * Constructs a Satellite object with a name and position. Distance is initialized to 0 and message to an empty list.
      *
      * @param name The name of the satellite.
      * @param position The position of the satellite as a Point.
@@ -81,7 +85,22 @@ public class Satellite {
         this.positionX = position.x;
         this.positionY = position.y;
         this.distance = 0.0;
-        this.receivedMessage = "";
+        this.receivedMessage = List.of();
+    }
+
+    /**
+     * Copy constructor. Creates a detached copy of another satellite, including its identifier,
+     * so that the copy can be modified and saved without touching the original instance.
+     *
+     * @param other The satellite to copy.
+     */
+    public Satellite(Satellite other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.positionX = other.positionX;
+        this.positionY = other.positionY;
+        this.distance = other.distance;
+        this.receivedMessage = other.receivedMessage;
     }
 
     /**
@@ -111,6 +130,26 @@ public class Satellite {
         return new Point(positionX, positionY);
     }
 
+    /**
+     * Gets the X coordinate of the satellite's position without allocating a Point.
+     *
+     * @return The X coordinate.
+     */
+    @JsonIgnore
+    public int getPositionX() {
+        return positionX;
+    }
+
+    /**
+     * Gets the Y coordinate of the satellite's position without allocating a Point.
+     *
+     * @return The Y coordinate.
+     */
+    @JsonIgnore
+    public int getPositionY() {
+        return positionY;
+    }
+
     /**
      * Sets the position of the satellite.
      *
@@ -142,10 +181,10 @@ public class Satellite {
     /**
      * Gets the received message as a list of strings.
      *
-     * @return The received message split into a list, or null if no message was received.
+     * @return An unmodifiable list with the received message fragments, or null if no message was received.
      */
     public List<String> getReceivedMessage() {
-        return receivedMessage != null ? Arrays.asList(receivedMessage.split(",")) : null;
+        return receivedMessage;
     }
 
     /**
@@ -154,6 +193,13 @@ public class Satellite {
      * @param receivedMessage The received message represented as a list of strings.
      */
     public void setReceivedMessage(List<String> receivedMessage) {
-        this.receivedMessage = receivedMessage != null ? String.join(",", receivedMessage) : null;
+        this.receivedMessage = copyOf(receivedMessage);
+    }
+
+    /**
+     * Creates an unmodifiable copy of a list of fragments, allowing null elements.
+     */
+    private static List<String> copyOf(List<String> fragments) {
+        return fragments != null ? Collections.unmodifiableList(new ArrayList<>(fragments)) : null;
     }
 }
\ No newline at end of file
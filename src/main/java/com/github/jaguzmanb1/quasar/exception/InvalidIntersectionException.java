@@ -6,12 +6,48 @@ package com.github.jaguzmanb1.quasar.exception;
  */
 public class InvalidIntersectionException extends RuntimeException {
 
+    /**
+     * Reasons why a position cannot be determined.
+     */
+    public enum Reason {
+        /** The distances do not describe circles that meet at a single point. */
+        NO_INTERSECTION,
+        /** The reference points are collinear or coincident, so the system cannot be solved. */
+        DEGENERATE_GEOMETRY,
+        /** A position was estimated but it does not fit the measured distances well enough. */
+        RESIDUAL_TOO_LARGE,
+        /** The reason was not specified. */
+        UNSPECIFIED
+    }
+
+    private final Reason reason;
+
     /**
      * Constructs a new InvalidIntersectionException with the specified detail message.
      *
      * @param message the detail message explaining the cause of the exception
      */
     public InvalidIntersectionException(String message) {
+        this(message, Reason.UNSPECIFIED);
+    }
+
+    /**
+     * Constructs a new InvalidIntersectionException with the specified detail message and reason.
+     *
+     * @param message the detail message explaining the cause of the exception
+     * @param reason the reason why the position could not be determined
+     */
+    public InvalidIntersectionException(String message, Reason reason) {
         super(message);
+        this.reason = reason;
+    }
+
+    /**
+     * Gets the reason why the position could not be determined.
+     *
+     * @return the reason
+     */
+    public Reason getReason() {
+        return reason;
     }
 }
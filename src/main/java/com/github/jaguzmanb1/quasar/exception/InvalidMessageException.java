@@ -0,0 +1,17 @@
+package com.github.jaguzmanb1.quasar.exception;
+
+/**
+ * Exception thrown when a message cannot be reconstructed from its fragments.
+ * This typically occurs when different sources report different words for the same position.
+ */
+public class InvalidMessageException extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidMessageException with the specified detail message.
+     *
+     * @param message the detail message explaining the cause of the exception
+     */
+    public InvalidMessageException(String message) {
+        super(message);
+    }
+}
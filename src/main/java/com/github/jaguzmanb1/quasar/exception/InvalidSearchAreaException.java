@@ -0,0 +1,18 @@
+package com.github.jaguzmanb1.quasar.exception;
+
+/**
+ * Exception thrown when a satellite search is given an area that cannot contain any point, such as a
+ * negative radius or a region whose minimum is greater than its maximum. It is caused by the request, not
+ * by the server, so it is reported as a bad request.
+ */
+public class InvalidSearchAreaException extends IllegalArgumentException {
+
+    /**
+     * Constructs a new InvalidSearchAreaException with the specified detail message.
+     *
+     * @param message the detail message explaining why the area is invalid
+     */
+    public InvalidSearchAreaException(String message) {
+        super(message);
+    }
+}
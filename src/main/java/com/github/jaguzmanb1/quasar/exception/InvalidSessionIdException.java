@@ -0,0 +1,17 @@
+package com.github.jaguzmanb1.quasar.exception;
+
+/**
+ * Exception thrown when a split session is given an id that is reserved, because the route of the session
+ * would collide with another route of the split mode.
+ */
+public class InvalidSessionIdException extends IllegalArgumentException {
+
+    /**
+     * Constructs a new InvalidSessionIdException for the given session.
+     *
+     * @param sessionId the reserved id
+     */
+    public InvalidSessionIdException(String sessionId) {
+        super("Session id is reserved: " + sessionId);
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.jaguzmanb1.quasar.exception;
+
+/**
+ * Exception thrown when a request refers to a satellite that is not registered.
+ */
+public class SatelliteNotFoundException extends RuntimeException {
+
+    /**
+     * Constructs a new SatelliteNotFoundException for the given satellite.
+     *
+     * @param name the name of the satellite that could not be found
+     */
+    public SatelliteNotFoundException(String name) {
+        super("Satellite not found: " + name);
+    }
+}
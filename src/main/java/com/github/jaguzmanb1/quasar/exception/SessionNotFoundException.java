@@ -0,0 +1,16 @@
+package com.github.jaguzmanb1.quasar.exception;
+
+/**
+ * Exception thrown when a request refers to a split session that does not exist or has expired.
+ */
+public class SessionNotFoundException extends RuntimeException {
+
+    /**
+     * Constructs a new SessionNotFoundException for the given session.
+     *
+     * @param sessionId the id of the session that could not be found
+     */
+    public SessionNotFoundException(String sessionId) {
+        super("Session not found: " + sessionId);
+    }
+}
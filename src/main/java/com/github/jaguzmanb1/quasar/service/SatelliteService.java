@@ -0,0 +1,104 @@
+package com.github.jaguzmanb1.quasar.service;
+
+import com.github.jaguzmanb1.quasar.entity.Satellite;
+import com.github.jaguzmanb1.quasar.exception.InvalidSearchAreaException;
+import com.github.jaguzmanb1.quasar.exception.SatelliteNotFoundException;
+import com.github.jaguzmanb1.quasar.service.registry.SatelliteRegistry;
+import org.springframework.stereotype.Service;
+
+import java.awt.*;
+import java.util.List;
+
+/**
+ * Service responsible for managing the constellation: registering, moving, removing and locating satellites.
+ * Every change goes through the satellite registry, so it is visible to the solvers right away and results
+ * cached for the previous positions are discarded.
+ */
+@Service
+public class SatelliteService {
+
+    private final SatelliteRegistry satelliteRegistry;
+
+    /**
+     * Constructor to inject dependencies.
+     * @param satelliteRegistry In-memory registry serving satellite data.
+     */
+    public SatelliteService(SatelliteRegistry satelliteRegistry) {
+        this.satelliteRegistry = satelliteRegistry;
+    }
+
+    /**
+     * Retrieves all satellites from the registry.
+     * @return List of all satellites, in registration order.
+     */
+    public List<Satellite> getSatellites() {
+        return satelliteRegistry.findAll();
+    }
+
+    /**
+     * Retrieves a satellite by name.
+     * @param name The name of the satellite.
+     * @return The satellite.
+     * @throws SatelliteNotFoundException if the satellite is not registered.
+     */
+    public Satellite getSatellite(String name) {
+        return satelliteRegistry.findByName(name).orElseThrow(() -> new SatelliteNotFoundException(name));
+    }
+
+    /**
+     * Registers a satellite at the given position, or moves it there if it is already registered.
+     * Readings already received by a moved satellite are kept.
+     * @param name The name of the satellite.
+     * @param position The position of the satellite.
+     * @return The saved satellite.
+     */
+    public Satellite saveSatellite(String name, Point position) {
+        Satellite satellite = satelliteRegistry.findByName(name)
+                .map(Satellite::new)
+                .orElseGet(() -> new Satellite(name, position));
+        satellite.setPosition(position);
+        return satelliteRegistry.save(satellite);
+    }
+
+    /**
+     * Removes a satellite from the constellation.
+     * @param name The name of the satellite.
+     * @throws SatelliteNotFoundException if the satellite is not registered.
+     */
+    public void deleteSatellite(String name) {
+        if (!satelliteRegistry.delete(name)) {
+            throw new SatelliteNotFoundException(name);
+        }
+    }
+
+    /**
+     * Retrieves the satellites within a distance of a point.
+     * @param x X coordinate of the center.
+     * @param y Y coordinate of the center.
+     * @param radius Maximum distance, boundary included.
+     * @return The satellites found, nearest first.
+     * @throws InvalidSearchAreaException if the radius is negative.
+     */
+    public List<Satellite> getSatellitesWithinRange(double x, double y, double radius) {
+        if (radius < 0) {
+            throw new InvalidSearchAreaException("Radius cannot be negative.");
+        }
+        return satelliteRegistry.findWithinRange(x, y, radius);
+    }
+
+    /**
+     * Retrieves the satellites inside a rectangular region.
+     * @param minX Smallest X coordinate.
+     * @param minY Smallest Y coordinate.
+     * @param maxX Largest X coordinate.
+     * @param maxY Largest Y coordinate.
+     * @return The satellites found, in registration order.
+     * @throws InvalidSearchAreaException if a minimum is greater than its maximum.
+     */
+    public List<Satellite> getSatellitesInRegion(double minX, double minY, double maxX, double maxY) {
+        if (minX > maxX || minY > maxY) {
+            throw new InvalidSearchAreaException("Region minimum cannot be greater than its maximum.");
+        }
+        return satelliteRegistry.findInRegion(minX, minY, maxX, maxY);
+    }
+}
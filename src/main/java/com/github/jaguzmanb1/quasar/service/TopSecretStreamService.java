@@ -0,0 +1,129 @@
+package com.github.jaguzmanb1.quasar.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.jaguzmanb1.quasar.dto.TopSecretBatchResultDTO;
+import com.github.jaguzmanb1.quasar.dto.TopSecretRequestDTO;
+import com.github.jaguzmanb1.quasar.exception.InvalidIntersectionException;
+import com.github.jaguzmanb1.quasar.exception.InvalidMessageException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service responsible for solving newline-delimited JSON (NDJSON) feeds of top-secret requests.
+ * Records are read one at a time with a streaming parser and each result is written back as soon as
+ * the record is solved, so memory usage does not depend on the size of the feed.
+ */
+@Service
+public class TopSecretStreamService {
+
+    private final TranslationService translationService;
+    private final Validator validator;
+    private final ObjectReader requestReader;
+    private final ObjectWriter resultWriter;
+
+    /**
+     * Constructor to inject dependencies.
+     * @param translationService Service used to solve each record.
+     * @param validator Validator applied to each record, as done for regular requests.
+     * @param objectMapper Mapper used to read records and write results.
+     */
+    public TopSecretStreamService(TranslationService translationService, Validator validator, ObjectMapper objectMapper) {
+        this.translationService = translationService;
+        this.validator = validator;
+        this.requestReader = objectMapper.readerFor(TopSecretRequestDTO.class)
+                .without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        this.resultWriter = objectMapper.writerFor(TopSecretBatchResultDTO.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Reads NDJSON records from the input and writes one NDJSON result per record to the output.
+     * Output is flushed whenever the input has no more data immediately available, so results of a live
+     * feed are delivered without waiting for the next record. A malformed record ends the stream with an
+     * error result, since the position of the next record cannot be determined reliably.
+     * @param input Stream of NDJSON encoded top-secret requests.
+     * @param output Stream receiving the NDJSON encoded results, in record order.
+     * @return The number of records processed.
+     * @throws IOException if reading the input or writing the output fails.
+     */
+    public long process(InputStream input, OutputStream output) throws IOException {
+        long processed = 0;
+
+        try (MappingIterator<TopSecretRequestDTO> records = requestReader.readValues(input);
+             SequenceWriter results = resultWriter.writeValues(output)) {
+            while (true) {
+                if (input.available() == 0) {
+                    results.flush();
+                }
+
+                TopSecretBatchResultDTO result;
+                try {
+                    if (!records.hasNextValue()) {
+                        break;
+                    }
+                    result = solve(records.nextValue());
+                } catch (JsonParseException ex) {
+                    results.write(malformed(ex));
+                    processed++;
+                    break;
+                } catch (JsonMappingException ex) {
+                    // Syntax errors found while binding a nested value arrive wrapped in a mapping exception
+                    if (ex.getCause() instanceof JsonParseException parseError) {
+                        results.write(malformed(parseError));
+                        processed++;
+                        break;
+                    }
+                    result = TopSecretBatchResultDTO.failure("Invalid record: " + ex.getOriginalMessage());
+                }
+
+                results.write(result);
+                processed++;
+            }
+        }
+
+        return processed;
+    }
+
+    private static TopSecretBatchResultDTO malformed(JsonParseException ex) {
+        return TopSecretBatchResultDTO.failure("Malformed record: " + ex.getOriginalMessage());
+    }
+
+    /**
+     * Validates and solves a single record.
+     * @param request The record to solve.
+     * @return The result of the record, carrying the error if it could not be solved.
+     */
+    private TopSecretBatchResultDTO solve(TopSecretRequestDTO request) {
+        Set<ConstraintViolation<TopSecretRequestDTO>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return TopSecretBatchResultDTO.failure(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        try {
+            return TopSecretBatchResultDTO.success(translationService.returnTopSecretResponse(request.getSatellites()));
+        } catch (InvalidIntersectionException | InvalidMessageException | IllegalArgumentException | IllegalStateException ex) {
+            return TopSecretBatchResultDTO.failure(ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.jaguzmanb1.quasar.service;
+
+import com.github.jaguzmanb1.quasar.dto.SpaceShipInfoDTO;
+import com.github.jaguzmanb1.quasar.dto.TopSecretTrackResponseDTO;
+import com.github.jaguzmanb1.quasar.entity.Satellite;
+import com.github.jaguzmanb1.quasar.service.location.LocationCalculatorInterface;
+import com.github.jaguzmanb1.quasar.service.messages.MessageDecoderInterface;
+import com.github.jaguzmanb1.quasar.service.registry.SatelliteRegistry;
+import com.github.jaguzmanb1.quasar.service.track.ShipTrackTable;
+import com.github.jaguzmanb1.quasar.service.track.TrackEstimate;
+import org.springframework.stereotype.Service;
+
+import java.awt.*;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service responsible for tracking ships that report at high frequency.
+ * The first report of a ship is solved like a regular top-secret request; later reports are fused into the
+ * ship's track instead of being solved from scratch, which is cheaper and tolerates distances that do not
+ * intersect exactly.
+ */
+@Service
+public class TrackingService {
+
+    private final LocationCalculatorInterface locationCalculator;
+    private final MessageDecoderInterface messageDecoder;
+    private final SatelliteRegistry satelliteRegistry;
+    private final ShipTrackTable shipTrackTable;
+
+    /**
+     * Constructor to inject dependencies.
+     * @param locationCalculator Interface used to solve the first fix of a track.
+     * @param messageDecoder Interface for decoding intercepted messages.
+     * @param satelliteRegistry In-memory registry serving satellite data.
+     * @param shipTrackTable Table holding the track of every ship.
+     */
+    public TrackingService(LocationCalculatorInterface locationCalculator, MessageDecoderInterface messageDecoder,
+                           SatelliteRegistry satelliteRegistry, ShipTrackTable shipTrackTable) {
+        this.locationCalculator = locationCalculator;
+        this.messageDecoder = messageDecoder;
+        this.satelliteRegistry = satelliteRegistry;
+        this.shipTrackTable = shipTrackTable;
+    }
+
+    /**
+     * Updates the track of a ship with the distances it reported and decodes its message.
+     * @param shipId The id of the ship.
+     * @param spaceShipDistanceInfo List of received distances and messages from satellites.
+     * @return The filtered position and velocity of the ship, and its decoded message.
+     */
+    public TopSecretTrackResponseDTO track(String shipId, List<SpaceShipInfoDTO> spaceShipDistanceInfo) {
+        if (spaceShipDistanceInfo == null || spaceShipDistanceInfo.size() < 3) {
+            throw new IllegalArgumentException("At least three satellites are required.");
+        }
+
+        Map<String, Double> distanceMap = new HashMap<>();
+        for (SpaceShipInfoDTO info : spaceShipDistanceInfo) {
+            if (distanceMap.put(info.getName(), info.getDistance()) != null) {
+                throw new IllegalArgumentException("Duplicate satellite: " + info.getName());
+            }
+        }
+
+        List<Satellite> satellites = satelliteRegistry.findAllByNameIn(distanceMap.keySet());
+        if (satellites.size() < distanceMap.size()) {
+            throw new IllegalArgumentException("Missing required satellites in database.");
+        }
+
+        int count = satellites.size();
+        double[] xs = new double[count];
+        double[] ys = new double[count];
+        double[] distances = new double[count];
+        for (int k = 0; k < count; k++) {
+            Satellite satellite = satellites.get(k);
+            xs[k] = satellite.getPositionX();
+            ys[k] = satellite.getPositionY();
+            distances[k] = distanceMap.get(satellite.getName());
+        }
+
+        TrackEstimate estimate = shipTrackTable.update(shipId, xs, ys, distances, count,
+                () -> locationCalculator.estimateLocation(xs, ys, distances, count));
+
+        String message = messageDecoder.decodeMessage(
+                spaceShipDistanceInfo.stream().map(SpaceShipInfoDTO::getMessage).toList());
+
+        return new TopSecretTrackResponseDTO(
+                new Point((int) Math.round(estimate.getX()), (int) Math.round(estimate.getY())),
+                estimate.getVelocityX(), estimate.getVelocityY(), message,
+                estimate.getAccepted(), estimate.getRejected());
+    }
+}
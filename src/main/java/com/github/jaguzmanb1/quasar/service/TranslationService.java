@@ -1,19 +1,48 @@
 package com.github.jaguzmanb1.quasar.service;
 
+import com.github.jaguzmanb1.quasar.dto.TopSecretBatchResponseDTO;
+import com.github.jaguzmanb1.quasar.dto.TopSecretBatchResultDTO;
+import com.github.jaguzmanb1.quasar.dto.TopSecretRequestDTO;
 import com.github.jaguzmanb1.quasar.dto.TopSecretResponseDTO;
 import com.github.jaguzmanb1.quasar.dto.SpaceShipInfoDTO;
 import com.github.jaguzmanb1.quasar.entity.Satellite;
+import com.github.jaguzmanb1.quasar.exception.InvalidIntersectionException;
+import com.github.jaguzmanb1.quasar.exception.InvalidMessageException;
+import com.github.jaguzmanb1.quasar.exception.InvalidSessionIdException;
+import com.github.jaguzmanb1.quasar.exception.SatelliteNotFoundException;
+import com.github.jaguzmanb1.quasar.exception.SessionNotFoundException;
 import com.github.jaguzmanb1.quasar.repository.SatelliteRepositoryInterface;
+import com.github.jaguzmanb1.quasar.service.cache.TopSecretResponseCache;
+import com.github.jaguzmanb1.quasar.service.history.FixHistoryRecorder;
 import com.github.jaguzmanb1.quasar.service.location.LocationCalculatorInterface;
+import com.github.jaguzmanb1.quasar.service.location.LocationEstimate;
 import com.github.jaguzmanb1.quasar.service.messages.MessageDecoderInterface;
-import jakarta.annotation.PostConstruct;
+import com.github.jaguzmanb1.quasar.service.registry.SatelliteRegistry;
+import com.github.jaguzmanb1.quasar.service.split.SatelliteReading;
+import com.github.jaguzmanb1.quasar.service.split.SplitEventPublisher;
+import com.github.jaguzmanb1.quasar.service.split.SplitSession;
+import com.github.jaguzmanb1.quasar.service.split.SplitSessionTable;
+import com.github.jaguzmanb1.quasar.service.split.SplitSnapshot;
+import com.github.jaguzmanb1.quasar.service.split.SplitSolution;
+import com.github.jaguzmanb1.quasar.service.split.SplitStateStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -25,65 +54,207 @@ public class TranslationService {
     private static final String KENOBI = "kenobi";
     private static final String SKYWALKER = "skywalker";
     private static final String SATO = "sato";
-    private static final Set<String> REQUIRED_SATELLITES = Set.of(KENOBI, SKYWALKER, SATO);
+
+    // GET /topsecret_split/events is the global event stream, so a session with this id could never be read
+    private static final String RESERVED_SESSION_ID = "events";
 
     private final LocationCalculatorInterface locationCalculator;
     private final MessageDecoderInterface messageDecoder;
     private final SatelliteRepositoryInterface satelliteRepository;
+    private final SatelliteRegistry satelliteRegistry;
+    private final SplitStateStore splitStateStore;
+    private final SplitSessionTable splitSessionTable;
+    private final SplitEventPublisher splitEventPublisher;
+    private final TopSecretResponseCache responseCache;
+    private final FixHistoryRecorder fixHistoryRecorder;
+    private final AtomicReference<SplitSolution> splitSolution = new AtomicReference<>();
+    private final Timer satelliteLookupTimer;
+    private final boolean seedSatellites;
+    private final Set<String> splitSatellites;
 
     /**
      * Constructor to inject dependencies.
      * @param locationCalculator Interface for calculating the spaceship location.
      * @param messageDecoder Interface for decoding intercepted messages.
      * @param satelliteRepository Repository interface for accessing satellite data.
+     * @param satelliteRegistry In-memory registry serving satellite data on the hot path.
+     * @param splitStateStore In-memory store holding the distances and messages received in split mode.
+     * @param splitSessionTable In-memory table holding the split-mode state of each session.
+     * @param splitEventPublisher Publisher pushing split-mode solutions to subscribed clients.
+     * @param responseCache Bounded cache of responses to repeated top-secret requests.
+     * @param fixHistoryRecorder Write-behind recorder of every solved top-secret fix.
+     * @param meterRegistry Registry where the timings of each stage are recorded.
+     * @param seedSatellites Whether the default satellites are inserted at startup when the table is empty.
+     *                       Disabled when the schema and its data are managed by migrations.
+     * @param splitSatellites Names of the three satellites whose readings are combined in split mode.
      */
     @Autowired
     public TranslationService(LocationCalculatorInterface locationCalculator,
                               MessageDecoderInterface messageDecoder,
-                              SatelliteRepositoryInterface satelliteRepository) {
+                              SatelliteRepositoryInterface satelliteRepository,
+                              SatelliteRegistry satelliteRegistry,
+                              SplitStateStore splitStateStore,
+                              SplitSessionTable splitSessionTable,
+                              SplitEventPublisher splitEventPublisher,
+                              TopSecretResponseCache responseCache,
+                              FixHistoryRecorder fixHistoryRecorder,
+                              MeterRegistry meterRegistry,
+                              @Value("${satellites.seed.enabled:true}") boolean seedSatellites,
+                              @Value("${split.satellites:kenobi,skywalker,sato}") List<String> splitSatellites) {
+        if (Set.copyOf(splitSatellites).size() != 3) {
+            throw new IllegalArgumentException("Split mode requires exactly three distinct satellites.");
+        }
         this.locationCalculator = locationCalculator;
         this.messageDecoder = messageDecoder;
         this.satelliteRepository = satelliteRepository;
+        this.satelliteRegistry = satelliteRegistry;
+        this.splitStateStore = splitStateStore;
+        this.splitSessionTable = splitSessionTable;
+        this.splitEventPublisher = splitEventPublisher;
+        this.responseCache = responseCache;
+        this.fixHistoryRecorder = fixHistoryRecorder;
+        this.satelliteLookupTimer = Timer.builder("quasar.satellites.lookup")
+                .description("Time spent fetching and validating the satellites of a request")
+                .register(meterRegistry);
+        this.seedSatellites = seedSatellites;
+        this.splitSatellites = Set.copyOf(splitSatellites);
     }
 
     /**
-     * Initializes the satellite repository with default satellite positions if no data is present.
+     * Initializes the satellite repository with default satellite positions if seeding is enabled and no data
+     * is present, warms up the satellite registry and restores the split-mode state.
+     * <p>
+     * Runs once the application is ready rather than while the context starts, so that the JPA repositories
+     * can still be bootstrapped in the background. Requests served before it completes are still correct: the
+     * registry loads satellites on a miss, and restoring the split-mode state never overwrites a reading that
+     * was received in the meantime.
      */
-    @PostConstruct
+    @EventListener(ApplicationReadyEvent.class)
     public void init() {
-        if (satelliteRepository.count() == 0) {
+        if (seedSatellites && satelliteRepository.count() == 0) {
             satelliteRepository.saveAll(List.of(
                     new Satellite(KENOBI, new Point(-500, -200)),
                     new Satellite(SKYWALKER, new Point(100, -100)),
                     new Satellite(SATO, new Point(500, 100))
             ));
         }
+        satelliteRegistry.refresh();
+        splitStateStore.initialize();
     }
 
     /**
      * Updates the satellite's stored distance and message information.
+     * The new reading is visible immediately and persisted in the background. Once every required satellite
+     * has reported, the new state is solved right away and pushed to the subscribers of the split mode.
      * @param satelliteName The name of the satellite to update.
      * @param spaceShipInfo The received data containing distance and message.
      */
     public void updateSatelliteInfo(String satelliteName, SpaceShipInfoDTO spaceShipInfo) {
-        Satellite satellite = satelliteRepository.findByName(satelliteName)
-                .orElseThrow(() -> new IllegalArgumentException("Satellite not found: " + satelliteName));
+        Satellite satellite = satelliteRegistry.findByName(satelliteName)
+                .orElseThrow(() -> new SatelliteNotFoundException(satelliteName));
+        if (!splitSatellites.contains(satellite.getName())) {
+            throw new IllegalArgumentException("Satellite " + satelliteName + " is not used in split mode.");
+        }
+
+        SplitSnapshot snapshot = splitStateStore.update(
+                satellite.getName(), spaceShipInfo.getDistance(), spaceShipInfo.getMessage());
+
+        if (snapshot.containsAll(splitSatellites)) {
+            SplitSolution solution = SplitSolution.solve(snapshot.getVersion(), satelliteRegistry.getPositionsVersion(),
+                    () -> solveSplit(fetchAndValidateSatellites(splitSatellites), snapshot));
+            offerSplitSolution(solution);
+            splitEventPublisher.publish(SplitEventPublisher.GLOBAL_CHANNEL, solution);
+        }
+    }
+
+    /**
+     * Updates the distance and message of a satellite within a split session, creating the session if needed.
+     * As soon as the session has data from every required satellite it is solved, and the solution is kept
+     * until the session changes again.
+     * @param sessionId The id of the session, identifying a ship or transmission.
+     * @param satelliteName The name of the satellite to update.
+     * @param spaceShipInfo The received data containing distance and message.
+     * @throws InvalidSessionIdException if the session id is reserved.
+     */
+    public void updateSessionSatelliteInfo(String sessionId, String satelliteName, SpaceShipInfoDTO spaceShipInfo) {
+        requireSessionId(sessionId);
+        Satellite satellite = satelliteRegistry.findByName(satelliteName)
+                .orElseThrow(() -> new SatelliteNotFoundException(satelliteName));
+        if (!splitSatellites.contains(satellite.getName())) {
+            throw new IllegalArgumentException("Satellite " + satelliteName + " is not used in split mode.");
+        }
+
+        SplitSession session = splitSessionTable.getOrCreate(sessionId);
+        SplitSnapshot snapshot = session.update(
+                new SatelliteReading(satellite.getName(), spaceShipInfo.getDistance(), spaceShipInfo.getMessage()));
+
+        if (snapshot.containsAll(splitSatellites)) {
+            SplitSolution solution = SplitSolution.solve(snapshot.getVersion(), satelliteRegistry.getPositionsVersion(),
+                    () -> solveSplit(fetchAndValidateSatellites(splitSatellites), snapshot));
+            session.offerSolution(solution);
+            splitEventPublisher.publish(session.getId(), solution);
+        }
+    }
+
+    /**
+     * Determines the spaceship's location and message from the data received within a split session.
+     * @param sessionId The id of the session.
+     * @return Decoded spaceship message and estimated location.
+     * @throws SessionNotFoundException if the session does not exist or has expired.
+     */
+    public TopSecretResponseDTO returnSessionTopSecretResponse(String sessionId) {
+        SplitSession session = splitSessionTable.find(sessionId)
+                .orElseThrow(() -> new SessionNotFoundException(sessionId));
+
+        long positionsVersion = satelliteRegistry.getPositionsVersion();
+        SplitSolution solution = session.currentSolution(positionsVersion);
+        if (solution == null) {
+            SplitSnapshot snapshot = session.snapshot();
+            solution = SplitSolution.solve(snapshot.getVersion(), positionsVersion,
+                    () -> solveSplit(fetchAndValidateSatellites(splitSatellites), snapshot));
+            session.offerSolution(solution);
+        }
+
+        return solution.getResponse();
+    }
+
+    /**
+     * Subscribes to the solutions of the split mode. The latest solution, if any, is sent right away.
+     * @return The emitter streaming the solutions.
+     */
+    public SseEmitter subscribeToSplitSolutions() {
+        return splitEventPublisher.subscribe(SplitEventPublisher.GLOBAL_CHANNEL, currentSplitSolution());
+    }
 
-        satellite.setDistance(spaceShipInfo.getDistance());
-        satellite.setReceivedMessage(spaceShipInfo.getMessage());
-        satelliteRepository.save(satellite);
+    /**
+     * Subscribes to the solutions of a split session, creating the session if needed so that clients can
+     * subscribe before the first fragment arrives. The latest solution, if any, is sent right away.
+     * @param sessionId The id of the session.
+     * @return The emitter streaming the solutions.
+     * @throws InvalidSessionIdException if the session id is reserved.
+     */
+    public SseEmitter subscribeToSessionSolutions(String sessionId) {
+        requireSessionId(sessionId);
+        SplitSession session = splitSessionTable.getOrCreate(sessionId);
+        return splitEventPublisher.subscribe(session.getId(),
+                session.currentSolution(satelliteRegistry.getPositionsVersion()));
     }
 
     /**
-     * Retrieves all satellites from the database.
-     * @return List of all satellites.
+     * Rejects session ids whose routes would collide with the routes of the split mode.
+     * @param sessionId The id of the session.
      */
-    public List<Satellite> getSatellites() {
-        return satelliteRepository.findAll();
+    private static void requireSessionId(String sessionId) {
+        if (RESERVED_SESSION_ID.equals(sessionId)) {
+            throw new InvalidSessionIdException(sessionId);
+        }
     }
 
     /**
      * Determines the spaceship's location and deciphers its message using given satellite data.
+     * Responses are cached, so a repeated request is answered without looking up, solving or decoding again
+     * as long as the satellite positions have not changed. Every response, cached or not, is recorded in the
+     * fix history.
      * @param spaceShipDistanceInfo List of received distances and messages from satellites.
      * @return Decoded spaceship message and estimated location.
      */
@@ -92,37 +263,215 @@ public class TranslationService {
             throw new IllegalArgumentException("At least three satellites are required.");
         }
 
+        TopSecretResponseCache.Key key = TopSecretResponseCache.keyOf(spaceShipDistanceInfo);
+        long positionsVersion = satelliteRegistry.getPositionsVersion();
+        TopSecretResponseDTO cached = responseCache.get(key, positionsVersion);
+        if (cached != null) {
+            fixHistoryRecorder.record(spaceShipDistanceInfo, cached);
+            return cached;
+        }
+
         Map<String, Double> distanceMap = spaceShipDistanceInfo.stream()
                 .collect(Collectors.toMap(SpaceShipInfoDTO::getName, SpaceShipInfoDTO::getDistance));
 
-        List<Satellite> satellites = fetchAndValidateSatellites(distanceMap.keySet(), false);
+        List<Satellite> satellites = fetchAndValidateSatellites(distanceMap.keySet());
 
-        Point location = locationCalculator.calculateLocation(
-                satellites.get(0).getPosition(), distanceMap.get(satellites.get(0).getName()),
-                satellites.get(1).getPosition(), distanceMap.get(satellites.get(1).getName()),
-                satellites.get(2).getPosition(), distanceMap.get(satellites.get(2).getName())
-        );
+        TopSecretResponseDTO response = solve(satellites, distanceMap, spaceShipDistanceInfo);
+        responseCache.put(key, positionsVersion, response);
+        fixHistoryRecorder.record(spaceShipDistanceInfo, response);
+        return response;
+    }
+
+    /**
+     * Solves a batch of independent fixes in a single pass.
+     * Satellite positions are looked up in the registry once for the whole batch, and each fix is then solved
+     * against that lookup table. A fix that cannot be solved does not abort the batch; its
+     * result carries the error instead. Every solved fix is recorded in the fix history.
+     * @param requests List of top-secret requests to be solved.
+     * @return One result per request, in request order.
+     */
+    public TopSecretBatchResponseDTO returnTopSecretBatchResponse(List<TopSecretRequestDTO> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one request is required.");
+        }
+
+        Set<String> names = new HashSet<>();
+        for (TopSecretRequestDTO request : requests) {
+            if (request.getSatellites() != null) {
+                for (SpaceShipInfoDTO info : request.getSatellites()) {
+                    names.add(info.getName());
+                }
+            }
+        }
+
+        Map<String, Satellite> satellitesByName = new HashMap<>();
+        for (Satellite satellite : satelliteRegistry.findAllByNameIn(names)) {
+            satellitesByName.put(satellite.getName(), satellite);
+        }
+
+        List<TopSecretBatchResultDTO> results = new ArrayList<>(requests.size());
+        for (TopSecretRequestDTO request : requests) {
+            try {
+                TopSecretResponseDTO response = solveBatchEntry(request.getSatellites(), satellitesByName);
+                fixHistoryRecorder.record(request.getSatellites(), response);
+                results.add(TopSecretBatchResultDTO.success(response));
+            } catch (InvalidIntersectionException | InvalidMessageException | IllegalArgumentException | IllegalStateException ex) {
+                results.add(TopSecretBatchResultDTO.failure(ex.getMessage()));
+            }
+        }
+
+        return new TopSecretBatchResponseDTO(results);
+    }
+
+    /**
+     * Solves a single entry of a batch using the satellites already fetched for the batch.
+     * @param spaceShipDistanceInfo List of received distances and messages from satellites.
+     * @param satellitesByName Satellites fetched for the whole batch, keyed by name.
+     * @return Decoded spaceship message and estimated location.
+     */
+    private TopSecretResponseDTO solveBatchEntry(List<SpaceShipInfoDTO> spaceShipDistanceInfo,
+                                                 Map<String, Satellite> satellitesByName) {
+        if (spaceShipDistanceInfo == null || spaceShipDistanceInfo.size() < 3) {
+            throw new IllegalArgumentException("At least three satellites are required.");
+        }
+
+        Map<String, Double> distanceMap = new HashMap<>();
+        List<Satellite> satellites = new ArrayList<>(spaceShipDistanceInfo.size());
+        for (SpaceShipInfoDTO info : spaceShipDistanceInfo) {
+            Satellite satellite = satellitesByName.get(info.getName());
+            if (satellite == null) {
+                throw new IllegalArgumentException("Missing required satellites in database.");
+            }
+            if (distanceMap.put(info.getName(), info.getDistance()) != null) {
+                throw new IllegalArgumentException("Duplicate satellite: " + info.getName());
+            }
+            satellites.add(satellite);
+        }
+
+        return solve(satellites, distanceMap, spaceShipDistanceInfo);
+    }
+
+    /**
+     * Calculates the location and decodes the message for a single fix.
+     * With exactly three satellites the location calculator is used directly; with more, every satellite
+     * takes part in the estimate and its residual is reported in the response.
+     * @param satellites Satellites taking part in the fix.
+     * @param distanceMap Distances received for the fix, keyed by satellite name.
+     * @param spaceShipDistanceInfo List of received distances and messages from satellites.
+     * @return Decoded spaceship message and estimated location.
+     */
+    private TopSecretResponseDTO solve(List<Satellite> satellites, Map<String, Double> distanceMap,
+                                       List<SpaceShipInfoDTO> spaceShipDistanceInfo) {
+        Point location;
+        Double residual = null;
+        if (satellites.size() == 3) {
+            location = locationCalculator.calculateLocation(
+                    satellites.get(0).getPosition(), distanceMap.get(satellites.get(0).getName()),
+                    satellites.get(1).getPosition(), distanceMap.get(satellites.get(1).getName()),
+                    satellites.get(2).getPosition(), distanceMap.get(satellites.get(2).getName())
+            );
+        } else {
+            int count = satellites.size();
+            double[] xs = new double[count];
+            double[] ys = new double[count];
+            double[] distances = new double[count];
+            for (int k = 0; k < count; k++) {
+                Satellite satellite = satellites.get(k);
+                xs[k] = satellite.getPositionX();
+                ys[k] = satellite.getPositionY();
+                distances[k] = distanceMap.get(satellite.getName());
+            }
+
+            LocationEstimate estimate = locationCalculator.estimateLocation(xs, ys, distances, count);
+            location = new Point((int) Math.round(estimate.getX()), (int) Math.round(estimate.getY()));
+            residual = estimate.getResidual();
+        }
 
         String message = messageDecoder.decodeMessage(
                 spaceShipDistanceInfo.stream().map(SpaceShipInfoDTO::getMessage).toList());
 
-        return new TopSecretResponseDTO(location, message);
+        TopSecretResponseDTO response = new TopSecretResponseDTO(location, message);
+        response.setResidual(residual);
+        return response;
     }
 
     /**
      * Retrieves stored satellite data and determines the spaceship's location and message.
+     * All readings come from a single snapshot of the split-mode state, so concurrent updates
+     * never produce a mix of old and new data.
      * @return Decoded spaceship message and estimated location.
      */
     public TopSecretResponseDTO returnSplitTopSecretResponse() {
-        List<Satellite> satellites = fetchAndValidateSatellites(REQUIRED_SATELLITES, true);
+        SplitSolution cached = currentSplitSolution();
+        if (cached != null) {
+            return cached.getResponse();
+        }
+
+        long positionsVersion = satelliteRegistry.getPositionsVersion();
+        List<Satellite> satellites = fetchAndValidateSatellites(splitSatellites);
+
+        SplitSnapshot snapshot = splitStateStore.snapshot();
+        if (!snapshot.containsAll(splitSatellites)) {
+            snapshot = splitStateStore.load(satellites.stream()
+                    .map(SatelliteReading::from)
+                    .filter(SatelliteReading::isComplete)
+                    .toList());
+        }
+
+        SplitSnapshot solved = snapshot;
+        SplitSolution solution = SplitSolution.solve(solved.getVersion(), positionsVersion,
+                () -> solveSplit(satellites, solved));
+        offerSplitSolution(solution);
+        return solution.getResponse();
+    }
+
+    /**
+     * Gets the cached solution of the split mode if it was computed from the current state of the store
+     * and the current satellite positions.
+     * @return The solution, or null if the state or the positions changed since it was computed.
+     */
+    private SplitSolution currentSplitSolution() {
+        SplitSolution current = splitSolution.get();
+        return current != null
+                && current.isCurrent(splitStateStore.snapshot().getVersion(), satelliteRegistry.getPositionsVersion())
+                ? current : null;
+    }
+
+    /**
+     * Caches a solution of the split mode unless a solution of a newer state was already cached.
+     * @param solution The solution to cache.
+     */
+    private void offerSplitSolution(SplitSolution solution) {
+        splitSolution.accumulateAndGet(solution,
+                (current, offered) -> offered.isNewerThan(current) ? offered : current);
+    }
+
+    /**
+     * Determines the spaceship's location and message from a snapshot of split-mode readings.
+     * @param satellites The required satellites, providing their positions.
+     * @param snapshot The readings received for the satellites.
+     * @return Decoded spaceship message and estimated location.
+     */
+    private TopSecretResponseDTO solveSplit(List<Satellite> satellites, SplitSnapshot snapshot) {
+        List<SatelliteReading> readings = new ArrayList<>(satellites.size());
+        for (Satellite sat : satellites) {
+            SatelliteReading reading = snapshot.get(sat.getName());
+            if (reading == null || reading.getDistance() <= 0) {
+                throw new IllegalArgumentException("Satellite " + sat.getName() + " is missing distance data.");
+            }
+            if (reading.getMessage() == null || reading.getMessage().isEmpty()) {
+                throw new IllegalArgumentException("Satellite " + sat.getName() + " is missing message data.");
+            }
+            readings.add(reading);
+        }
 
         Point location = locationCalculator.calculateLocation(
-                satellites.get(0).getPosition(), satellites.get(0).getDistance(),
-                satellites.get(1).getPosition(), satellites.get(1).getDistance(),
-                satellites.get(2).getPosition(), satellites.get(2).getDistance()
+                satellites.get(0).getPosition(), readings.get(0).getDistance(),
+                satellites.get(1).getPosition(), readings.get(1).getDistance(),
+                satellites.get(2).getPosition(), readings.get(2).getDistance()
         );
 
-        List<List<String>> messagesList = satellites.stream().map(Satellite::getReceivedMessage).toList();
+        List<List<String>> messagesList = readings.stream().map(SatelliteReading::getMessage).toList();
 
         String message = messageDecoder.decodeMessage(
                 messagesList
@@ -132,30 +481,22 @@ public class TranslationService {
     }
 
     /**
-     * Fetches and validates satellite data based on provided names.
-     * Ensures that all required satellites exist and have valid data.
+     * Fetches and validates satellite data based on provided names, served from the satellite registry.
+     * Ensures that all required satellites exist.
      * @param requiredSatellites The set of satellite names that need to be validated.
      * @return List of valid satellites.
      */
-    private List<Satellite> fetchAndValidateSatellites(Set<String> requiredSatellites, boolean splitMode) {
-        List<Satellite> satellites = satelliteRepository.findAllByNameIn(requiredSatellites);
-        if (satellites.size() < 3) {
-            throw new IllegalArgumentException("Missing required satellites in database.");
-        }
+    private List<Satellite> fetchAndValidateSatellites(Set<String> requiredSatellites) {
+        long start = System.nanoTime();
+        try {
+            List<Satellite> satellites = satelliteRegistry.findAllByNameIn(requiredSatellites);
+            if (satellites.size() < 3) {
+                throw new IllegalArgumentException("Missing required satellites in database.");
+            }
 
-        if (!splitMode) {
             return satellites;
+        } finally {
+            satelliteLookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
-
-        for (Satellite sat : satellites) {
-            if (sat.getDistance() == null || sat.getDistance() <= 0) {
-                throw new IllegalArgumentException("Satellite " + sat.getName() + " is missing distance data.");
-            }
-            if (sat.getReceivedMessage() == null || sat.getReceivedMessage().isEmpty()) {
-                throw new IllegalArgumentException("Satellite " + sat.getName() + " is missing message data.");
-            }
-        }
-
-        return satellites;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,248 @@
+package com.github.jaguzmanb1.quasar.service.cache;
+
+import com.github.jaguzmanb1.quasar.dto.SpaceShipInfoDTO;
+import com.github.jaguzmanb1.quasar.dto.TopSecretResponseDTO;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of {@code /topsecret} responses, keyed by a canonical form of the received satellite data.
+ * <p>
+ * Entries expire a fixed time after they are stored and the least recently used entry is evicted when the
+ * cache is full. Every entry is tagged with the version of the satellite positions it was computed from
+ * (see {@code SatelliteRegistry#getPositionsVersion()}), so moving, adding or reloading satellites
+ * invalidates every cached response at once without scanning the cache.
+ * <p>
+ * Cached responses are shared between requests and must not be modified.
+ */
+public class TopSecretResponseCache implements MeterBinder {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache using the system clock.
+     * @param maxEntries Maximum number of responses kept; zero or less disables the cache.
+     * @param ttl Time a response is kept after it is stored.
+     */
+    public TopSecretResponseCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, System::nanoTime);
+    }
+
+    /**
+     * Creates a cache using the given clock.
+     * @param maxEntries Maximum number of responses kept; zero or less disables the cache.
+     * @param ttl Time a response is kept after it is stored.
+     * @param clock Source of monotonic time in nanoseconds.
+     */
+    public TopSecretResponseCache(int maxEntries, Duration ttl, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Builds the canonical key of a request. Two requests have the same key when they report the same
+     * satellites, in the same order, with the same distances and message fragments. The order is kept
+     * because the decoded message may depend on it.
+     * @param infos The satellite data of the request.
+     * @return The key.
+     */
+    public static Key keyOf(List<SpaceShipInfoDTO> infos) {
+        int count = infos.size();
+        String[] names = new String[count];
+        long[] distances = new long[count];
+        List<List<String>> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            SpaceShipInfoDTO info = infos.get(i);
+            names[i] = info.getName();
+            distances[i] = canonicalBits(info.getDistance());
+            messages.add(info.getMessage() != null ? new ArrayList<>(info.getMessage()) : null);
+        }
+        return new Key(names, distances, messages);
+    }
+
+    /**
+     * Gets a cached response.
+     * @param key The key of the request.
+     * @param positionsVersion The current version of the satellite positions.
+     * @return The response, or null if there is none or it is stale.
+     */
+    public TopSecretResponseDTO get(Key key, long positionsVersion) {
+        if (maxEntries <= 0) {
+            return null;
+        }
+
+        synchronized (this) {
+            long now = clock.getAsLong();
+            Entry entry = entries.get(key);
+            if (entry != null && (entry.positionsVersion != positionsVersion || now - entry.storedAt >= ttlNanos)) {
+                entries.remove(key);
+                evictions.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.response;
+        }
+    }
+
+    /**
+     * Stores a response.
+     * @param key The key of the request.
+     * @param positionsVersion The version of the satellite positions the response was computed from.
+     * @param response The response.
+     */
+    public void put(Key key, long positionsVersion, TopSecretResponseDTO response) {
+        if (maxEntries <= 0) {
+            return;
+        }
+
+        synchronized (this) {
+            long now = clock.getAsLong();
+            evictExpired(now);
+            if (!entries.containsKey(key) && entries.size() >= maxEntries) {
+                Iterator<Entry> eldest = entries.values().iterator();
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+            entries.put(key, new Entry(response, positionsVersion, now));
+        }
+    }
+
+    /**
+     * Gets the number of cached responses, including those not yet found to be stale.
+     * @return The number of entries.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the fraction of lookups served from the cache.
+     * @return The hit ratio, between 0 and 1, or 0 if there were no lookups.
+     */
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("quasar.response.cache.lookups", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Responses served from the cache")
+                .register(registry);
+        FunctionCounter.builder("quasar.response.cache.lookups", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Responses that had to be computed")
+                .register(registry);
+        FunctionCounter.builder("quasar.response.cache.evictions", evictions, LongAdder::sum)
+                .description("Responses removed because they expired, went stale or the cache was full")
+                .register(registry);
+        Gauge.builder("quasar.response.cache.size", this, TopSecretResponseCache::size)
+                .description("Number of cached responses")
+                .register(registry);
+        Gauge.builder("quasar.response.cache.hit.ratio", this, TopSecretResponseCache::hitRatio)
+                .description("Fraction of lookups served from the cache")
+                .register(registry);
+    }
+
+    /**
+     * Removes expired entries from the least recently used end of the cache. Entries are kept in access
+     * order, so an expired entry that keeps being read is removed by {@link #get} instead.
+     */
+    private void evictExpired(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next().storedAt < ttlNanos) {
+                break;
+            }
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Gets the bits of a distance, folding -0.0 into 0.0 and every NaN into a single value.
+     */
+    private static long canonicalBits(Double distance) {
+        if (distance == null) {
+            return Long.MIN_VALUE;
+        }
+        return distance == 0.0 ? 0L : Double.doubleToLongBits(distance);
+    }
+
+    /**
+     * Canonical form of the satellite data of a request, with its hash computed once.
+     */
+    public static final class Key {
+        private final String[] names;
+        private final long[] distances;
+        private final List<List<String>> messages;
+        private final int hash;
+
+        private Key(String[] names, long[] distances, List<List<String>> messages) {
+            this.names = names;
+            this.distances = distances;
+            this.messages = messages;
+            this.hash = 31 * (31 * Arrays.hashCode(names) + Arrays.hashCode(distances)) + messages.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return hash == other.hash
+                    && Arrays.equals(names, other.names)
+                    && Arrays.equals(distances, other.distances)
+                    && messages.equals(other.messages);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Cached response together with the positions version it was computed from and the time it was stored.
+     */
+    private static final class Entry {
+        private final TopSecretResponseDTO response;
+        private final long positionsVersion;
+        private final long storedAt;
+
+        private Entry(TopSecretResponseDTO response, long positionsVersion, long storedAt) {
+            this.response = response;
+            this.positionsVersion = positionsVersion;
+            this.storedAt = storedAt;
+        }
+    }
+}
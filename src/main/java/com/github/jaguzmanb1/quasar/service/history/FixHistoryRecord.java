@@ -0,0 +1,57 @@
+package com.github.jaguzmanb1.quasar.service.history;
+
+import com.github.jaguzmanb1.quasar.dto.SpaceShipInfoDTO;
+import com.github.jaguzmanb1.quasar.dto.TopSecretResponseDTO;
+
+import java.util.List;
+
+/**
+ * A solved fix waiting to be written to the fix history: the readings it was solved from and the response
+ * that was returned for them.
+ */
+public class FixHistoryRecord {
+
+    private final long solvedAtMillis;
+    private final List<SpaceShipInfoDTO> satellites;
+    private final TopSecretResponseDTO response;
+
+    /**
+     * Creates a record.
+     *
+     * @param solvedAtMillis Time at which the fix was solved, in milliseconds since the epoch.
+     * @param satellites Readings the fix was solved from.
+     * @param response Response returned for the fix.
+     */
+    public FixHistoryRecord(long solvedAtMillis, List<SpaceShipInfoDTO> satellites, TopSecretResponseDTO response) {
+        this.solvedAtMillis = solvedAtMillis;
+        this.satellites = satellites;
+        this.response = response;
+    }
+
+    /**
+     * Gets the time at which the fix was solved.
+     *
+     * @return The solving time, in milliseconds since the epoch.
+     */
+    public long getSolvedAtMillis() {
+        return solvedAtMillis;
+    }
+
+    /**
+     * Gets the readings the fix was solved from.
+     *
+     * @return The readings.
+     */
+    public List<SpaceShipInfoDTO> getSatellites() {
+        return satellites;
+    }
+
+    /**
+     * Gets the response returned for the fix.
+     *
+     * @return The response.
+     */
+    public TopSecretResponseDTO getResponse() {
+        return response;
+    }
+}
@@ -0,0 +1,244 @@
+package com.github.jaguzmanb1.quasar.service.history;
+
+import com.github.jaguzmanb1.quasar.dto.SpaceShipInfoDTO;
+import com.github.jaguzmanb1.quasar.dto.TopSecretResponseDTO;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind recorder of solved fixes.
+ * <p>
+ * Request threads only put the fix on a bounded in-memory queue. A single background writer takes the
+ * records off the queue and hands them to the {@link FixHistoryWriterInterface} in batches: a batch is
+ * written as soon as it holds {@code batchSize} records, or once the oldest record in it has waited for
+ * {@code flushInterval}, whichever comes first.
+ * <p>
+ * When the writer falls behind and the queue is full, recording a fix blocks the request for up to
+ * {@code enqueueTimeout}, which slows the producers down to the pace of the database. If the queue is still
+ * full after that, the fix is dropped and counted rather than stalling the request any longer. Closing the
+ * recorder wakes the writer up, and the writer writes every record that is still queued before it exits, so
+ * the queue is never drained by two threads at once.
+ */
+public class FixHistoryRecorder implements MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(FixHistoryRecorder.class);
+    private static final long CLOSE_TIMEOUT_MILLIS = 30_000;
+
+    private final FixHistoryWriterInterface writer;
+    private final BlockingQueue<FixHistoryRecord> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long enqueueTimeoutNanos;
+    private final ThreadFactory threadFactory;
+
+    private final LongAdder writtenRecords = new LongAdder();
+    private final LongAdder droppedRecords = new LongAdder();
+    private final LongAdder failedRecords = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    private volatile boolean running;
+    private volatile boolean closed;
+    private Thread worker;
+
+    /**
+     * Creates a recorder. The background writer does not run until {@link #start()} is called.
+     *
+     * @param writer Durable storage the batches are written to.
+     * @param capacity Maximum number of fixes waiting to be written.
+     * @param batchSize Maximum number of fixes written in a single transaction.
+     * @param flushInterval Maximum time a fix waits in the queue before its batch is written.
+     * @param enqueueTimeout Maximum time a request waits for room in a full queue before its fix is dropped.
+     * @param threadFactory Factory of the background writer thread.
+     */
+    public FixHistoryRecorder(FixHistoryWriterInterface writer, int capacity, int batchSize, Duration flushInterval,
+                              Duration enqueueTimeout, ThreadFactory threadFactory) {
+        if (capacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Fix history capacity and batch size must be positive.");
+        }
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.enqueueTimeoutNanos = enqueueTimeout.toNanos();
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * Starts the background writer. Does nothing if it is already running.
+     */
+    public synchronized void start() {
+        if (worker != null || closed) {
+            return;
+        }
+        running = true;
+        worker = threadFactory.newThread(this::run);
+        worker.start();
+    }
+
+    /**
+     * Queues a solved fix to be written to the history.
+     *
+     * @param satellites Readings the fix was solved from.
+     * @param response Response returned for the fix.
+     * @return Whether the fix was queued; false if it was dropped because the queue stayed full or the
+     *         recorder is closed.
+     */
+    public boolean record(List<SpaceShipInfoDTO> satellites, TopSecretResponseDTO response) {
+        if (!closed) {
+            FixHistoryRecord record = new FixHistoryRecord(System.currentTimeMillis(), satellites, response);
+            try {
+                if (queue.offer(record, enqueueTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                    return true;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        droppedRecords.increment();
+        return false;
+    }
+
+    /**
+     * Writes every queued record on the calling thread, in batches of at most {@code batchSize} records.
+     */
+    public void flush() {
+        List<FixHistoryRecord> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+        }
+    }
+
+    /**
+     * Stops accepting fixes and writes every record that is still queued. If the background writer is
+     * running it is interrupted out of its wait, writes the remaining records itself and exits; otherwise
+     * they are written on the calling thread.
+     *
+     * @throws InterruptedException if interrupted while waiting for the background writer.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        Thread current;
+        synchronized (this) {
+            closed = true;
+            running = false;
+            current = worker;
+        }
+        if (current == null) {
+            flush();
+            return;
+        }
+        current.interrupt();
+        current.join(CLOSE_TIMEOUT_MILLIS);
+        if (current.isAlive()) {
+            log.warn("Fix history writer is still writing after {} ms; the remaining fixes are written when it "
+                    + "finishes", CLOSE_TIMEOUT_MILLIS);
+        }
+    }
+
+    /**
+     * Gets the number of fixes waiting to be written.
+     *
+     * @return The size of the queue.
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("quasar.fix.history.records", writtenRecords, LongAdder::sum)
+                .tag("result", "written")
+                .description("Solved fixes written to the fix history")
+                .register(registry);
+        FunctionCounter.builder("quasar.fix.history.records", droppedRecords, LongAdder::sum)
+                .tag("result", "dropped")
+                .description("Solved fixes dropped because the fix history queue was full")
+                .register(registry);
+        FunctionCounter.builder("quasar.fix.history.records", failedRecords, LongAdder::sum)
+                .tag("result", "failed")
+                .description("Solved fixes lost because their batch could not be written")
+                .register(registry);
+        FunctionCounter.builder("quasar.fix.history.batches", batches, LongAdder::sum)
+                .description("Batches written to the fix history")
+                .register(registry);
+        Gauge.builder("quasar.fix.history.queue", this, FixHistoryRecorder::size)
+                .description("Number of solved fixes waiting to be written")
+                .register(registry);
+    }
+
+    private void run() {
+        List<FixHistoryRecord> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                collect(batch);
+            } catch (InterruptedException ex) {
+                // close() interrupts the writer so that it stops waiting for records; the batch collected so
+                // far is still written below
+                running = false;
+            }
+            write(batch);
+        }
+        // Clear an interrupt that arrived while a batch was being written before writing what is left
+        Thread.interrupted();
+        flush();
+    }
+
+    /**
+     * Waits for the first record of a batch and then keeps adding records until the batch is full or the
+     * first record has waited for the flush interval.
+     */
+    private void collect(List<FixHistoryRecord> batch) throws InterruptedException {
+        FixHistoryRecord first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            FixHistoryRecord next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<FixHistoryRecord> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            writer.write(batch);
+            writtenRecords.add(batch.size());
+            batches.increment();
+        } catch (RuntimeException ex) {
+            // The history is an audit trail, not the source of truth: a failed batch is logged and skipped
+            // so that one bad write does not hold up every fix behind it
+            failedRecords.add(batch.size());
+            log.error("Failed to write {} fixes to the fix history", batch.size(), ex);
+        } finally {
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.jaguzmanb1.quasar.service.history;
+
+import java.util.List;
+
+/**
+ * Interface for the durable storage behind the fix history.
+ * Implementations of this interface provide different strategies to write batches of solved fixes.
+ */
+public interface FixHistoryWriterInterface {
+
+    /**
+     * Writes a batch of records. Either every record of the batch is stored or none is.
+     *
+     * @param records The records to write, in the order they were solved.
+     */
+    void write(List<FixHistoryRecord> records);
+}
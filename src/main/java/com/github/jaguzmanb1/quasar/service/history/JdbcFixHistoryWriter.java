@@ -0,0 +1,111 @@
+package com.github.jaguzmanb1.quasar.service.history;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.github.jaguzmanb1.quasar.dto.SpaceShipInfoDTO;
+import com.github.jaguzmanb1.quasar.dto.TopSecretResponseDTO;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Implementation of {@link FixHistoryWriterInterface} that inserts the records into the {@code fix_history}
+ * table with plain JDBC.
+ * <p>
+ * The whole batch goes through a single prepared statement and a single transaction, so SQLite takes the
+ * write lock and syncs its journal once per batch instead of once per fix. The readings of each fix are
+ * stored as a JSON array in the {@code satellites} column.
+ */
+public class JdbcFixHistoryWriter implements FixHistoryWriterInterface {
+
+    private static final String INSERT = "INSERT INTO fix_history "
+            + "(solved_at, satellites, position_x, position_y, message, residual) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final DataSource dataSource;
+    private final JsonFactory jsonFactory;
+
+    /**
+     * Constructor to inject dependencies.
+     * @param dataSource Data source of the database holding the {@code fix_history} table.
+     * @param jsonFactory Factory used to serialize the readings of each fix.
+     */
+    public JdbcFixHistoryWriter(DataSource dataSource, JsonFactory jsonFactory) {
+        this.dataSource = dataSource;
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    public void write(List<FixHistoryRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+                for (FixHistoryRecord record : records) {
+                    bind(statement, record);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException | RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Failed to write " + records.size() + " fixes to the fix history", ex);
+        }
+    }
+
+    private void bind(PreparedStatement statement, FixHistoryRecord record) throws SQLException {
+        TopSecretResponseDTO response = record.getResponse();
+        statement.setLong(1, record.getSolvedAtMillis());
+        statement.setString(2, toJson(record.getSatellites()));
+        statement.setInt(3, response.getPosition().x);
+        statement.setInt(4, response.getPosition().y);
+        statement.setString(5, response.getMessage());
+        if (response.getResidual() != null) {
+            statement.setDouble(6, response.getResidual());
+        } else {
+            statement.setNull(6, Types.DOUBLE);
+        }
+    }
+
+    /**
+     * Serializes the readings of a fix, keeping only the name, distance and message fragments of each one.
+     */
+    private String toJson(List<SpaceShipInfoDTO> satellites) {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = jsonFactory.createGenerator(json)) {
+            generator.writeStartArray();
+            for (SpaceShipInfoDTO satellite : satellites) {
+                generator.writeStartObject();
+                generator.writeStringField("name", satellite.getName());
+                generator.writeNumberField("distance", satellite.getDistance());
+                generator.writeArrayFieldStart("message");
+                if (satellite.getMessage() != null) {
+                    for (String fragment : satellite.getMessage()) {
+                        generator.writeString(fragment);
+                    }
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return json.toString();
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.jaguzmanb1.quasar.service.location;
+
+/**
+ * Solves large batches of fixes against a single constellation, using SIMD lanes when possible.
+ * <p>
+ * The vectorized kernel is used when the {@code jdk.incubator.vector} module is available, that is when the
+ * JVM is started with {@code --add-modules jdk.incubator.vector}, unless the {@code quasar.vector.disabled}
+ * system property is set. Otherwise the scalar {@link ConstellationGeometry#solveAll} kernel is used.
+ * Both paths produce the same results.
+ */
+public final class BatchTrilaterationSolver {
+
+    private static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && !Boolean.getBoolean("quasar.vector.disabled");
+
+    private BatchTrilaterationSolver() {
+    }
+
+    /**
+     * Indicates whether batches are solved with the vectorized kernel.
+     *
+     * @return {@code true} if the Vector API is in use
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Solves a batch of fixes stored in columns.
+     * Fixes whose distances do not form a valid trilateration are written as {@link Double#NaN}.
+     *
+     * @param geometry The constellation the distances refer to
+     * @param r1 Distances from the first satellite
+     * @param r2 Distances from the second satellite
+     * @param r3 Distances from the third satellite
+     * @param outX Array receiving the x coordinates
+     * @param outY Array receiving the y coordinates
+     * @param count Number of fixes to solve, starting at index 0
+     * @return The number of fixes that were solved
+     */
+    public static int solveAll(ConstellationGeometry geometry, double[] r1, double[] r2, double[] r3,
+                               double[] outX, double[] outY, int count) {
+        if (VECTORIZED) {
+            return VectorTrilaterationKernel.solveAll(geometry, r1, r2, r3, outX, outY, count);
+        }
+        return geometry.solveAll(r1, r2, r3, outX, outY, count);
+    }
+}
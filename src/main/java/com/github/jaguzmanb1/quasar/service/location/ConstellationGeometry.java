@@ -0,0 +1,253 @@
+package com.github.jaguzmanb1.quasar.service.location;
+
+/**
+ * Precomputed geometry of a three-satellite constellation used for trilateration.
+ * Everything that depends only on the satellite positions (the P1-P2 distance, the {@code ex}/{@code ey}
+ * basis, the projections {@code i}/{@code j} and the pairwise distances used for validation) is computed
+ * once at construction time, so solving a fix only costs a handful of multiply-adds on the three radii.
+ * <p>
+ * Instances are immutable and can be shared between threads. The solve methods work on primitives and
+ * caller-provided arrays and never allocate.
+ */
+public final class ConstellationGeometry {
+
+    private final double x1;
+    private final double y1;
+    private final double x2;
+    private final double y2;
+    private final double x3;
+    private final double y3;
+
+    // Pairwise distances between the satellites, used to validate the radii
+    private final double d12;
+    private final double d13;
+    private final double d23;
+
+    // Orthonormal basis centered on P1, with ex pointing to P2
+    private final double exX;
+    private final double exY;
+    private final double eyX;
+    private final double eyY;
+
+    // Coefficients of the closed-form solution
+    private final double dSquared;
+    private final double ijSquared;
+    private final double inverseTwoD;
+    private final double inverseTwoJ;
+    private final double iOverJ;
+
+    private final boolean degenerate;
+
+    private ConstellationGeometry(double x1, double y1, double x2, double y2, double x3, double y3) {
+        this.x1 = x1;
+        this.y1 = y1;
+        this.x2 = x2;
+        this.y2 = y2;
+        this.x3 = x3;
+        this.y3 = y3;
+
+        this.d12 = Math.hypot(x2 - x1, y2 - y1);
+        this.d13 = Math.hypot(x3 - x1, y3 - y1);
+        this.d23 = Math.hypot(x3 - x2, y3 - y2);
+
+        double d = d12;
+        this.exX = (x2 - x1) / d;
+        this.exY = (y2 - y1) / d;
+
+        // Projection of P3 onto the line defined by P1 and P2
+        double i = exX * (x3 - x1) + exY * (y3 - y1);
+
+        // Unit vector perpendicular to the line P1-P2
+        double rawEyX = x3 - x1 - i * exX;
+        double rawEyY = y3 - y1 - i * exY;
+        double eyNorm = Math.sqrt(rawEyX * rawEyX + rawEyY * rawEyY);
+        this.eyX = rawEyX / eyNorm;
+        this.eyY = rawEyY / eyNorm;
+
+        // Projection of P3 onto the perpendicular axis
+        double j = eyX * (x3 - x1) + eyY * (y3 - y1);
+
+        this.dSquared = d * d;
+        this.ijSquared = i * i + j * j;
+        this.inverseTwoD = 1.0 / (2 * d);
+        this.inverseTwoJ = 1.0 / (2 * j);
+        this.iOverJ = i / j;
+
+        // Coincident or collinear satellites do not define a unique position
+        this.degenerate = !(d > 0) || !(eyNorm > 0) || !Double.isFinite(iOverJ);
+    }
+
+    /**
+     * Builds the geometry of a constellation from the positions of its three satellites.
+     *
+     * @param x1 X coordinate of the first satellite
+     * @param y1 Y coordinate of the first satellite
+     * @param x2 X coordinate of the second satellite
+     * @param y2 Y coordinate of the second satellite
+     * @param x3 X coordinate of the third satellite
+     * @param y3 Y coordinate of the third satellite
+     * @return The precomputed constellation geometry
+     */
+    public static ConstellationGeometry of(double x1, double y1, double x2, double y2, double x3, double y3) {
+        return new ConstellationGeometry(x1, y1, x2, y2, x3, y3);
+    }
+
+    /**
+     * Indicates whether this geometry was built from the given satellite positions, in the same order.
+     *
+     * @param x1 X coordinate of the first satellite
+     * @param y1 Y coordinate of the first satellite
+     * @param x2 X coordinate of the second satellite
+     * @param y2 Y coordinate of the second satellite
+     * @param x3 X coordinate of the third satellite
+     * @param y3 Y coordinate of the third satellite
+     * @return {@code true} if the geometry can be reused for these positions
+     */
+    public boolean matches(double x1, double y1, double x2, double y2, double x3, double y3) {
+        return this.x1 == x1 && this.y1 == y1
+                && this.x2 == x2 && this.y2 == y2
+                && this.x3 == x3 && this.y3 == y3;
+    }
+
+    /**
+     * Indicates whether the satellites are coincident or collinear, in which case no fix can be solved.
+     *
+     * @return {@code true} if the constellation cannot be used for trilateration
+     */
+    public boolean isDegenerate() {
+        return degenerate;
+    }
+
+    /**
+     * Validates whether the given distances form a valid trilateration for this constellation.
+     * Uses the same criteria as {@link TrilaterationCalculator}: every pair of circles must intersect.
+     *
+     * @param r1 Distance from the first satellite
+     * @param r2 Distance from the second satellite
+     * @param r3 Distance from the third satellite
+     * @return {@code true} if trilateration is possible, {@code false} otherwise
+     */
+    public boolean isValid(double r1, double r2, double r3) {
+        return !degenerate &&
+                (d12 <= r1 + r2 && d12 >= Math.abs(r1 - r2)) &&
+                (d13 <= r1 + r3 && d13 >= Math.abs(r1 - r3)) &&
+                (d23 <= r2 + r3 && d23 >= Math.abs(r2 - r3));
+    }
+
+    // Coefficients exposed to the vectorized kernel in this package
+
+    double x1() {
+        return x1;
+    }
+
+    double y1() {
+        return y1;
+    }
+
+    double d12() {
+        return d12;
+    }
+
+    double d13() {
+        return d13;
+    }
+
+    double d23() {
+        return d23;
+    }
+
+    double exX() {
+        return exX;
+    }
+
+    double exY() {
+        return exY;
+    }
+
+    double eyX() {
+        return eyX;
+    }
+
+    double eyY() {
+        return eyY;
+    }
+
+    double dSquared() {
+        return dSquared;
+    }
+
+    double ijSquared() {
+        return ijSquared;
+    }
+
+    double inverseTwoD() {
+        return inverseTwoD;
+    }
+
+    double inverseTwoJ() {
+        return inverseTwoJ;
+    }
+
+    double iOverJ() {
+        return iOverJ;
+    }
+
+    /**
+     * Solves a single fix.
+     *
+     * @param r1 Distance from the first satellite
+     * @param r2 Distance from the second satellite
+     * @param r3 Distance from the third satellite
+     * @param out Array of at least two elements receiving the x and y coordinates
+     * @return {@code true} if the fix was solved, {@code false} if the distances do not form a valid
+     *         trilateration, in which case {@code out} is left untouched
+     */
+    public boolean solve(double r1, double r2, double r3, double[] out) {
+        if (!isValid(r1, r2, r3)) {
+            return false;
+        }
+
+        double r1Squared = r1 * r1;
+        double x = (r1Squared - r2 * r2 + dSquared) * inverseTwoD;
+        double y = (r1Squared - r3 * r3 + ijSquared) * inverseTwoJ - iOverJ * x;
+
+        out[0] = x1 + x * exX + y * eyX;
+        out[1] = y1 + x * exY + y * eyY;
+        return true;
+    }
+
+    /**
+     * Solves a batch of fixes stored in columns.
+     * Fixes whose distances do not form a valid trilateration are written as {@link Double#NaN}.
+     *
+     * @param r1 Distances from the first satellite
+     * @param r2 Distances from the second satellite
+     * @param r3 Distances from the third satellite
+     * @param outX Array receiving the x coordinates
+     * @param outY Array receiving the y coordinates
+     * @param count Number of fixes to solve, starting at index 0
+     * @return The number of fixes that were solved
+     */
+    public int solveAll(double[] r1, double[] r2, double[] r3, double[] outX, double[] outY, int count) {
+        int solved = 0;
+        for (int k = 0; k < count; k++) {
+            double a = r1[k];
+            double b = r2[k];
+            double c = r3[k];
+            if (!isValid(a, b, c)) {
+                outX[k] = Double.NaN;
+                outY[k] = Double.NaN;
+                continue;
+            }
+
+            double aSquared = a * a;
+            double x = (aSquared - b * b + dSquared) * inverseTwoD;
+            double y = (aSquared - c * c + ijSquared) * inverseTwoJ - iOverJ * x;
+
+            outX[k] = x1 + x * exX + y * eyX;
+            outY[k] = y1 + x * exY + y * eyY;
+            solved++;
+        }
+        return solved;
+    }
+}
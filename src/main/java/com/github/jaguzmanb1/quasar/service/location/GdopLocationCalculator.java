@@ -0,0 +1,66 @@
+package com.github.jaguzmanb1.quasar.service.location;
+
+import com.github.jaguzmanb1.quasar.exception.InvalidIntersectionException;
+
+import java.awt.*;
+
+/**
+ * Decorator that lets a three-point calculator use the satellites with the best geometry when more than
+ * three report, instead of the first three.
+ * <p>
+ * The triples of the constellation are ranked by {@link GdopTripleSelector} and tried best first; if the
+ * distances do not intersect for one triple, the next candidate is tried. The residual of the result is
+ * computed against every reporting satellite, as in the default estimate.
+ */
+public class GdopLocationCalculator implements LocationCalculatorInterface {
+
+    private final LocationCalculatorInterface delegate;
+    private final GdopTripleSelector selector;
+
+    /**
+     * Creates a calculator.
+     * @param delegate The three-point calculator to use.
+     * @param selector The selector ranking the triples of each constellation.
+     */
+    public GdopLocationCalculator(LocationCalculatorInterface delegate, GdopTripleSelector selector) {
+        this.delegate = delegate;
+        this.selector = selector;
+    }
+
+    @Override
+    public Point calculateLocation(Point P1, double r1, Point P2, double r2, Point P3, double r3) {
+        return delegate.calculateLocation(P1, r1, P2, r2, P3, r3);
+    }
+
+    @Override
+    public LocationEstimate estimateLocation(double[] xs, double[] ys, double[] distances, int count) {
+        if (count <= 3) {
+            return delegate.estimateLocation(xs, ys, distances, count);
+        }
+
+        int[][] triples = selector.select(xs, ys, count);
+        if (triples.length == 0) {
+            throw new InvalidIntersectionException("Error - Indeterminate position...",
+                    InvalidIntersectionException.Reason.DEGENERATE_GEOMETRY);
+        }
+
+        InvalidIntersectionException failure = null;
+        for (int[] triple : triples) {
+            int i = triple[0];
+            int j = triple[1];
+            int k = triple[2];
+            try {
+                Point location = delegate.calculateLocation(
+                        new Point((int) xs[i], (int) ys[i]), distances[i],
+                        new Point((int) xs[j], (int) ys[j]), distances[j],
+                        new Point((int) xs[k], (int) ys[k]), distances[k]);
+                return LocationEstimate.of(location.getX(), location.getY(), xs, ys, distances, count);
+            } catch (InvalidIntersectionException ex) {
+                if (failure == null) {
+                    failure = ex;
+                }
+            }
+        }
+        throw failure;
+    }
+}
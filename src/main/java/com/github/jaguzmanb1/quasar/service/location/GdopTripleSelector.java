@@ -0,0 +1,253 @@
+package com.github.jaguzmanb1.quasar.service.location;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ranks the triples of a constellation by geometric dilution of precision (GDOP), so that a three-point
+ * calculator can be given the satellites that constrain the position best instead of the first three.
+ * <p>
+ * Each triple is scored at the centroid of the whole constellation, which stands for the area where fixes
+ * are expected: with unit vectors {@code u} from that point to the three satellites, {@code H^T H} is the
+ * 2x2 matrix of their sums of products and {@code GDOP = sqrt(trace((H^T H)^-1)) = sqrt(3 / det(H^T H))}.
+ * Triples whose determinant is below {@link #MIN_DETERMINANT} are discarded, and so are sliver triangles
+ * whose smallest angle has a sine below {@link #MIN_ANGLE_SINE}: seen from afar they may have a fair GDOP,
+ * but the linear system solved by the trilateration is ill-conditioned and admits a mirrored solution.
+ * A satellite lying exactly at the centroid contributes no direction.
+ * <p>
+ * Scores only depend on the positions, so rankings are cached per constellation in a bounded
+ * least-recently-used table and selection costs a hash lookup once a constellation has been seen.
+ */
+public class GdopTripleSelector implements MeterBinder {
+
+    /**
+     * Smallest determinant of {@code H^T H} of a usable triple. An equilateral triple seen from its center
+     * scores 2.25.
+     */
+    static final double MIN_DETERMINANT = 1e-6;
+
+    /**
+     * Smallest sine of the smallest angle of a usable triangle, about two degrees.
+     */
+    static final double MIN_ANGLE_SINE = 0.035;
+
+    private static final int[][] NONE = new int[0][];
+
+    private final int maxConstellations;
+    private final int candidates;
+    private final LinkedHashMap<Key, int[][]> rankings;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a selector.
+     * @param maxConstellations Maximum number of constellations whose ranking is kept.
+     * @param candidates Number of best triples returned for each constellation.
+     */
+    public GdopTripleSelector(int maxConstellations, int candidates) {
+        if (candidates < 1) {
+            throw new IllegalArgumentException("At least one candidate triple is required.");
+        }
+        this.maxConstellations = maxConstellations;
+        this.candidates = candidates;
+        this.rankings = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, int[][]> eldest) {
+                return size() > GdopTripleSelector.this.maxConstellations;
+            }
+        };
+    }
+
+    /**
+     * Gets the best triples of a constellation, best first.
+     * @param xs X coordinates of the satellites.
+     * @param ys Y coordinates of the satellites.
+     * @param count Number of satellites, starting at index 0.
+     * @return Up to {@code candidates} triples of indexes into the arrays, in increasing order of GDOP; empty if
+     *         every triple is degenerate. The arrays are shared and must not be modified.
+     */
+    public int[][] select(double[] xs, double[] ys, int count) {
+        Key key = new Key(Arrays.copyOf(xs, count), Arrays.copyOf(ys, count));
+        if (maxConstellations > 0) {
+            synchronized (rankings) {
+                int[][] cached = rankings.get(key);
+                if (cached != null) {
+                    hits.increment();
+                    return cached;
+                }
+            }
+        }
+
+        misses.increment();
+        int[][] ranking = rank(key.xs, key.ys, count, candidates);
+        if (maxConstellations > 0) {
+            synchronized (rankings) {
+                rankings.put(key, ranking);
+            }
+        }
+        return ranking;
+    }
+
+    /**
+     * Gets the number of constellations whose ranking is cached.
+     * @return The number of cached rankings.
+     */
+    public int size() {
+        synchronized (rankings) {
+            return rankings.size();
+        }
+    }
+
+    /**
+     * Gets the number of selections served from the cache.
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of selections that had to score the constellation.
+     * @return The miss count.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("quasar.location.gdop.lookups", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Triple selections served from the cached ranking of the constellation")
+                .register(registry);
+        FunctionCounter.builder("quasar.location.gdop.lookups", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Triple selections that required scoring every triple of the constellation")
+                .register(registry);
+        Gauge.builder("quasar.location.gdop.constellations", this, GdopTripleSelector::size)
+                .description("Number of constellations whose triple ranking is cached")
+                .register(registry);
+    }
+
+    /**
+     * Scores every triple and keeps the best ones, ordered by decreasing determinant, which is the same as
+     * increasing GDOP. Ties keep the earlier triple, so the satellites registered first are preferred.
+     */
+    private static int[][] rank(double[] xs, double[] ys, int count, int candidates) {
+        double refX = 0;
+        double refY = 0;
+        for (int i = 0; i < count; i++) {
+            refX += xs[i];
+            refY += ys[i];
+        }
+        refX /= count;
+        refY /= count;
+
+        double[] unitX = new double[count];
+        double[] unitY = new double[count];
+        for (int i = 0; i < count; i++) {
+            double dx = xs[i] - refX;
+            double dy = ys[i] - refY;
+            double length = Math.hypot(dx, dy);
+            if (length > 0) {
+                unitX[i] = dx / length;
+                unitY[i] = dy / length;
+            }
+        }
+
+        int[][] best = new int[candidates][];
+        double[] bestScores = new double[candidates];
+        int found = 0;
+        for (int i = 0; i < count - 2; i++) {
+            for (int j = i + 1; j < count - 1; j++) {
+                for (int k = j + 1; k < count; k++) {
+                    if (smallestAngleSine(xs, ys, i, j, k) < MIN_ANGLE_SINE) {
+                        continue;
+                    }
+                    double score = determinant(unitX, unitY, i, j, k);
+                    if (score < MIN_DETERMINANT || (found == candidates && score <= bestScores[found - 1])) {
+                        continue;
+                    }
+
+                    int position = Math.min(found, candidates - 1);
+                    while (position > 0 && bestScores[position - 1] < score) {
+                        best[position] = best[position - 1];
+                        bestScores[position] = bestScores[position - 1];
+                        position--;
+                    }
+                    best[position] = new int[]{i, j, k};
+                    bestScores[position] = score;
+                    found = Math.min(found + 1, candidates);
+                }
+            }
+        }
+
+        return found == 0 ? NONE : Arrays.copyOf(best, found);
+    }
+
+    /**
+     * Gets the sine of the smallest angle of a triangle: twice its area over the product of its two longest
+     * sides, since the smallest angle is opposite the shortest side.
+     */
+    private static double smallestAngleSine(double[] xs, double[] ys, int i, int j, int k) {
+        double ij = Math.hypot(xs[j] - xs[i], ys[j] - ys[i]);
+        double ik = Math.hypot(xs[k] - xs[i], ys[k] - ys[i]);
+        double jk = Math.hypot(xs[k] - xs[j], ys[k] - ys[j]);
+        double longest = Math.max(ij, Math.max(ik, jk));
+        double middle = ij + ik + jk - longest - Math.min(ij, Math.min(ik, jk));
+        if (middle == 0) {
+            return 0;
+        }
+        double cross = (xs[j] - xs[i]) * (ys[k] - ys[i]) - (xs[k] - xs[i]) * (ys[j] - ys[i]);
+        return Math.abs(cross) / (longest * middle);
+    }
+
+    /**
+     * Gets {@code det(H^T H)} for three unit vectors.
+     */
+    private static double determinant(double[] unitX, double[] unitY, int i, int j, int k) {
+        double xx = unitX[i] * unitX[i] + unitX[j] * unitX[j] + unitX[k] * unitX[k];
+        double yy = unitY[i] * unitY[i] + unitY[j] * unitY[j] + unitY[k] * unitY[k];
+        double xy = unitX[i] * unitY[i] + unitX[j] * unitY[j] + unitX[k] * unitY[k];
+        return xx * yy - xy * xy;
+    }
+
+    /**
+     * Positions of a constellation, compared by value.
+     */
+    private static final class Key {
+        private final double[] xs;
+        private final double[] ys;
+        private final int hash;
+
+        private Key(double[] xs, double[] ys) {
+            this.xs = xs;
+            this.ys = ys;
+            this.hash = 31 * Arrays.hashCode(xs) + Arrays.hashCode(ys);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return hash == other.hash && Arrays.equals(xs, other.xs) && Arrays.equals(ys, other.ys);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.github.jaguzmanb1.quasar.service.location;
+
+import com.github.jaguzmanb1.quasar.exception.InvalidIntersectionException;
+
+import java.awt.*;
+
+/**
+ * Implementation of {@link LocationCalculatorInterface} using least-squares multilateration.
+ * Unlike {@link TrilaterationCalculator}, it accepts any number of reference points (three or more)
+ * and tolerates noisy distances: instead of requiring the circles to intersect exactly, it finds the
+ * position that minimizes the squared differences between measured and estimated distances.
+ * <p>
+ * The initial guess is obtained from the linearized system (each circle equation minus the first one),
+ * and is then refined with Gauss-Newton iterations. Every step accumulates a 2x2 normal system in a single
+ * pass over the reference points, so a fix costs O(N) per iteration and no memory is allocated while iterating.
+ */
+public class LeastSquaresMultilaterationCalculator implements LocationCalculatorInterface {
+
+    private static final double SINGULARITY_THRESHOLD = 1e-12;
+
+    private final int maxIterations;
+    private final double tolerance;
+    private final double maxResidual;
+
+    /**
+     * Creates a calculator with the given convergence settings.
+     *
+     * @param maxIterations Maximum number of Gauss-Newton iterations
+     * @param tolerance Step length under which the estimate is considered converged
+     * @param maxResidual Maximum root mean square residual accepted; estimates above it are rejected
+     */
+    public LeastSquaresMultilaterationCalculator(int maxIterations, double tolerance, double maxResidual) {
+        this.maxIterations = maxIterations;
+        this.tolerance = tolerance;
+        this.maxResidual = maxResidual;
+    }
+
+    /**
+     * Calculates the position of an object from three reference points using least squares.
+     *
+     * @param P1 First point (satellite position)
+     * @param r1 Distance from the first point to the unknown position
+     * @param P2 Second point (satellite position)
+     * @param r2 Distance from the second point to the unknown position
+     * @param P3 Third point (satellite position)
+     * @param r3 Distance from the third point to the unknown position
+     * @return The calculated position as a {@link Point} object
+     * @throws InvalidIntersectionException if the points are collinear or the residual is too large
+     */
+    @Override
+    public Point calculateLocation(Point P1, double r1, Point P2, double r2, Point P3, double r3) {
+        LocationEstimate estimate = estimateLocation(
+                new double[]{P1.getX(), P2.getX(), P3.getX()},
+                new double[]{P1.getY(), P2.getY(), P3.getY()},
+                new double[]{r1, r2, r3},
+                3);
+        return new Point((int) Math.round(estimate.getX()), (int) Math.round(estimate.getY()));
+    }
+
+    /**
+     * Estimates the position of an object from any number of reference points using least squares.
+     *
+     * @param xs X coordinates of the reference points
+     * @param ys Y coordinates of the reference points
+     * @param distances Measured distances to the reference points
+     * @param count Number of reference points to use, starting at index 0
+     * @return The estimated position and its residual
+     * @throws IllegalArgumentException if fewer than three reference points are given
+     * @throws InvalidIntersectionException if the points are collinear or the residual is too large
+     */
+    @Override
+    public LocationEstimate estimateLocation(double[] xs, double[] ys, double[] distances, int count) {
+        if (count < 3) {
+            throw new IllegalArgumentException("At least three reference points are required.");
+        }
+
+        // Linearized initial guess: subtracting the first circle equation from the others gives
+        // 2(xk - x0) x + 2(yk - y0) y = r0^2 - rk^2 + xk^2 - x0^2 + yk^2 - y0^2
+        double x0 = xs[0];
+        double y0 = ys[0];
+        double k0 = distances[0] * distances[0] - x0 * x0 - y0 * y0;
+        double a11 = 0, a12 = 0, a22 = 0, b1 = 0, b2 = 0;
+        for (int k = 1; k < count; k++) {
+            double ax = 2 * (xs[k] - x0);
+            double ay = 2 * (ys[k] - y0);
+            double b = k0 - distances[k] * distances[k] + xs[k] * xs[k] + ys[k] * ys[k];
+            a11 += ax * ax;
+            a12 += ax * ay;
+            a22 += ay * ay;
+            b1 += ax * b;
+            b2 += ay * b;
+        }
+
+        double det = a11 * a22 - a12 * a12;
+        if (!(det > SINGULARITY_THRESHOLD * a11 * a22)) {
+            throw new InvalidIntersectionException("Error - Indeterminate position...",
+                    InvalidIntersectionException.Reason.DEGENERATE_GEOMETRY);
+        }
+
+        double x = (a22 * b1 - a12 * b2) / det;
+        double y = (a11 * b2 - a12 * b1) / det;
+
+        // Gauss-Newton refinement of the non-linear problem: minimize sum (|p - sk| - rk)^2
+        int iterations = 0;
+        while (iterations < maxIterations) {
+            double j11 = 0, j12 = 0, j22 = 0, g1 = 0, g2 = 0;
+            for (int k = 0; k < count; k++) {
+                double dx = x - xs[k];
+                double dy = y - ys[k];
+                double range = Math.sqrt(dx * dx + dy * dy);
+                if (range == 0) {
+                    continue;
+                }
+                double ux = dx / range;
+                double uy = dy / range;
+                double error = range - distances[k];
+                j11 += ux * ux;
+                j12 += ux * uy;
+                j22 += uy * uy;
+                g1 += ux * error;
+                g2 += uy * error;
+            }
+
+            double jDet = j11 * j22 - j12 * j12;
+            if (!(jDet > SINGULARITY_THRESHOLD * j11 * j22)) {
+                break;
+            }
+
+            double stepX = -(j22 * g1 - j12 * g2) / jDet;
+            double stepY = -(j11 * g2 - j12 * g1) / jDet;
+            x += stepX;
+            y += stepY;
+            iterations++;
+
+            if (stepX * stepX + stepY * stepY <= tolerance * tolerance) {
+                break;
+            }
+        }
+
+        double residual = LocationEstimate.rootMeanSquareResidual(x, y, xs, ys, distances, count);
+        if (!Double.isFinite(x) || !Double.isFinite(y)) {
+            throw new InvalidIntersectionException("Error - Indeterminate position...",
+                    InvalidIntersectionException.Reason.DEGENERATE_GEOMETRY);
+        }
+        if (residual > maxResidual) {
+            throw new InvalidIntersectionException("Error - Indeterminate position...",
+                    InvalidIntersectionException.Reason.RESIDUAL_TOO_LARGE);
+        }
+
+        return new LocationEstimate(x, y, residual, iterations);
+    }
+}
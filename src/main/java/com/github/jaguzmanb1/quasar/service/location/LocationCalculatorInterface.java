@@ -21,4 +21,27 @@ public interface LocationCalculatorInterface {
      * @throws IllegalArgumentException if the input data does not allow a valid calculation
      */
     Point calculateLocation(Point P1, double r1, Point P2, double r2, Point P3, double r3);
+
+    /**
+     * Estimates the position of an object given any number of reference points and their respective distances.
+     * The default implementation only uses the first three reference points.
+     *
+     * @param xs X coordinates of the reference points
+     * @param ys Y coordinates of the reference points
+     * @param distances Distances from each reference point to the object
+     * @param count Number of reference points to use, starting at index 0
+     * @return The estimated position together with its residual
+     * @throws IllegalArgumentException if the input data does not allow a valid calculation
+     */
+    default LocationEstimate estimateLocation(double[] xs, double[] ys, double[] distances, int count) {
+        if (count < 3) {
+            throw new IllegalArgumentException("At least three reference points are required.");
+        }
+
+        Point location = calculateLocation(
+                new Point((int) xs[0], (int) ys[0]), distances[0],
+                new Point((int) xs[1], (int) ys[1]), distances[1],
+                new Point((int) xs[2], (int) ys[2]), distances[2]);
+        return LocationEstimate.of(location.getX(), location.getY(), xs, ys, distances, count);
+    }
 }
@@ -0,0 +1,102 @@
+package com.github.jaguzmanb1.quasar.service.location;
+
+/**
+ * Result of a location calculation over any number of reference points.
+ * Besides the estimated coordinates, it reports how well the estimate fits the measured distances.
+ */
+public final class LocationEstimate {
+
+    private final double x;
+    private final double y;
+    private final double residual;
+    private final int iterations;
+
+    /**
+     * Creates a new location estimate.
+     *
+     * @param x Estimated X coordinate
+     * @param y Estimated Y coordinate
+     * @param residual Root mean square of the differences between measured and estimated distances
+     * @param iterations Number of refinement iterations performed to reach the estimate
+     */
+    public LocationEstimate(double x, double y, double residual, int iterations) {
+        this.x = x;
+        this.y = y;
+        this.residual = residual;
+        this.iterations = iterations;
+    }
+
+    /**
+     * Creates an estimate for an already known position, computing its residual against the measured distances.
+     *
+     * @param x X coordinate of the position
+     * @param y Y coordinate of the position
+     * @param xs X coordinates of the reference points
+     * @param ys Y coordinates of the reference points
+     * @param distances Measured distances to the reference points
+     * @param count Number of reference points
+     * @return The location estimate
+     */
+    public static LocationEstimate of(double x, double y, double[] xs, double[] ys, double[] distances, int count) {
+        return new LocationEstimate(x, y, rootMeanSquareResidual(x, y, xs, ys, distances, count), 0);
+    }
+
+    /**
+     * Computes the root mean square of the differences between the measured distances
+     * and the distances from the given position to each reference point.
+     *
+     * @param x X coordinate of the position
+     * @param y Y coordinate of the position
+     * @param xs X coordinates of the reference points
+     * @param ys Y coordinates of the reference points
+     * @param distances Measured distances to the reference points
+     * @param count Number of reference points
+     * @return The root mean square residual
+     */
+    public static double rootMeanSquareResidual(double x, double y, double[] xs, double[] ys,
+                                                double[] distances, int count) {
+        double sum = 0;
+        for (int k = 0; k < count; k++) {
+            double error = Math.hypot(x - xs[k], y - ys[k]) - distances[k];
+            sum += error * error;
+        }
+        return Math.sqrt(sum / count);
+    }
+
+    /**
+     * Gets the estimated X coordinate.
+     *
+     * @return the X coordinate
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Gets the estimated Y coordinate.
+     *
+     * @return the Y coordinate
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Gets the root mean square of the differences between measured and estimated distances.
+     * A value close to zero means the measurements are consistent with each other.
+     *
+     * @return the residual
+     */
+    public double getResidual() {
+        return residual;
+    }
+
+    /**
+     * Gets the number of refinement iterations performed.
+     *
+     * @return the iteration count
+     */
+    public int getIterations() {
+        return iterations;
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.jaguzmanb1.quasar.service.location;
+
+import com.github.jaguzmanb1.quasar.exception.InvalidIntersectionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.awt.*;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorator of {@link LocationCalculatorInterface} that records how long each calculation takes and counts
+ * the calculations that fail, tagged by the reason of the failure.
+ * <p>
+ * Meters are created once, so recording a calculation costs two clock reads and no lookups.
+ */
+public class TimedLocationCalculator implements LocationCalculatorInterface {
+
+    private final LocationCalculatorInterface delegate;
+    private final Timer calculateTimer;
+    private final Timer estimateTimer;
+    private final Map<InvalidIntersectionException.Reason, Counter> failures =
+            new EnumMap<>(InvalidIntersectionException.Reason.class);
+
+    /**
+     * Creates a timed calculator.
+     *
+     * @param delegate The calculator doing the actual work.
+     * @param meterRegistry The registry the meters are registered in.
+     */
+    public TimedLocationCalculator(LocationCalculatorInterface delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        String calculator = delegate.getClass().getSimpleName();
+
+        this.calculateTimer = Timer.builder("quasar.location.calculation")
+                .description("Time spent calculating a position")
+                .tag("calculator", calculator)
+                .tag("points", "3")
+                .register(meterRegistry);
+        this.estimateTimer = Timer.builder("quasar.location.calculation")
+                .description("Time spent calculating a position")
+                .tag("calculator", calculator)
+                .tag("points", "n")
+                .register(meterRegistry);
+
+        for (InvalidIntersectionException.Reason reason : InvalidIntersectionException.Reason.values()) {
+            failures.put(reason, Counter.builder("quasar.location.failures")
+                    .description("Positions that could not be determined")
+                    .tag("calculator", calculator)
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public Point calculateLocation(Point P1, double r1, Point P2, double r2, Point P3, double r3) {
+        long start = System.nanoTime();
+        try {
+            return delegate.calculateLocation(P1, r1, P2, r2, P3, r3);
+        } catch (InvalidIntersectionException ex) {
+            failures.get(ex.getReason()).increment();
+            throw ex;
+        } finally {
+            calculateTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public LocationEstimate estimateLocation(double[] xs, double[] ys, double[] distances, int count) {
+        long start = System.nanoTime();
+        try {
+            return delegate.estimateLocation(xs, ys, distances, count);
+        } catch (InvalidIntersectionException ex) {
+            failures.get(ex.getReason()).increment();
+            throw ex;
+        } finally {
+            estimateTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -2,13 +2,52 @@ package com.github.jaguzmanb1.quasar.service.location;
 
 import com.github.jaguzmanb1.quasar.exception.InvalidIntersectionException;
 import java.awt.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Implementation of {@link LocationCalculatorInterface} using trilateration.
  * This class calculates the position of an object based on distances from three known points (satellites).
+ * <p>
+ * The satellites rarely move, so the geometry of each constellation is kept as a {@link ConstellationGeometry}
+ * in a bounded least-recently-used table and reused while the positions stay the same. The GDOP selection
+ * tries several triples per fix and many constellations can be in use at once, so a single cached geometry
+ * would be rebuilt on almost every call. The last geometry used is also kept aside, so that the common case of
+ * a single constellation is served without taking the table lock.
  */
 public class TrilaterationCalculator implements LocationCalculatorInterface {
 
+    /**
+     * Default maximum number of constellations whose geometry is kept.
+     */
+    public static final int DEFAULT_MAX_CONSTELLATIONS = 1024;
+
+    private final int maxConstellations;
+    private final LinkedHashMap<Key, ConstellationGeometry> geometries;
+    private volatile ConstellationGeometry lastUsed;
+
+    /**
+     * Creates a calculator that keeps up to {@link #DEFAULT_MAX_CONSTELLATIONS} geometries.
+     */
+    public TrilaterationCalculator() {
+        this(DEFAULT_MAX_CONSTELLATIONS);
+    }
+
+    /**
+     * Creates a calculator.
+     *
+     * @param maxConstellations Maximum number of constellations whose geometry is kept.
+     */
+    public TrilaterationCalculator(int maxConstellations) {
+        this.maxConstellations = maxConstellations;
+        this.geometries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, ConstellationGeometry> eldest) {
+                return size() > TrilaterationCalculator.this.maxConstellations;
+            }
+        };
+    }
+
     /**
      * Calculates the position of an object using trilateration.
      * If the given distances and points do not form a valid trilateration, an exception is thrown.
@@ -24,60 +63,104 @@ public class TrilaterationCalculator implements LocationCalculatorInterface {
      */
     @Override
     public Point calculateLocation(Point P1, double r1, Point P2, double r2, Point P3, double r3) {
-        if (!isValidTrilateration(P1, r1, P2, r2, P3, r3)) {
-            throw new InvalidIntersectionException("Error - Indeterminate position...");
+        ConstellationGeometry geometry = prepare(P1, P2, P3);
+        if (geometry.isDegenerate()) {
+            throw new InvalidIntersectionException("Error - Indeterminate position...",
+                    InvalidIntersectionException.Reason.DEGENERATE_GEOMETRY);
         }
 
-        double d = P1.distance(P2); // Distance between P1 and P2
-
-        // Unit vector in the direction of P2 from P1
-        double exX = (P2.getX() - P1.getX()) / d;
-        double exY = (P2.getY() - P1.getY()) / d;
-
-        // Projection of P3 onto the line defined by P1 and P2
-        double i = exX * (P3.getX() - P1.getX()) + exY * (P3.getY() - P1.getY());
-
-        // Unit vector perpendicular to the line P1-P2
-        double eyX = (P3.getX() - P1.getX() - i * exX);
-        double eyY = (P3.getY() - P1.getY() - i * exY);
-        double eyNorm = Math.sqrt(eyX * eyX + eyY * eyY);
-        eyX /= eyNorm;
-        eyY /= eyNorm;
-
-        // Projection of P3 onto the perpendicular axis
-        double j = eyX * (P3.getX() - P1.getX()) + eyY * (P3.getY() - P1.getY());
-
-        // Calculate x coordinate in transformed space
-        double x = (Math.pow(r1, 2) - Math.pow(r2, 2) + Math.pow(d, 2)) / (2 * d);
-
-        // Calculate y coordinate in transformed space
-        double y = (Math.pow(r1, 2) - Math.pow(r3, 2) + Math.pow(i, 2) + Math.pow(j, 2)) / (2 * j) - (i * x / j);
+        double[] location = new double[2];
+        if (!geometry.solve(r1, r2, r3, location)) {
+            throw new InvalidIntersectionException("Error - Indeterminate position...",
+                    InvalidIntersectionException.Reason.NO_INTERSECTION);
+        }
 
-        // Convert back to original coordinate system
-        int finalX = (int) Math.round(P1.getX() + x * exX + y * eyX);
-        int finalY = (int) Math.round(P1.getY() + x * exY + y * eyY);
+        return new Point((int) Math.round(location[0]), (int) Math.round(location[1]));
+    }
 
-        return new Point(finalX, finalY);
+    /**
+     * Gets the number of constellations whose geometry is kept.
+     *
+     * @return The number of cached geometries.
+     */
+    public int size() {
+        synchronized (geometries) {
+            return geometries.size();
+        }
     }
 
     /**
-     * Validates whether the given points and distances form a valid trilateration.
-     * Ensures that the three circles defined by their centers and radii intersect in a single point.
+     * Gets the geometry of the given constellation, building it only the first time the positions are seen.
      *
      * @param P1 First point (satellite position)
-     * @param r1 Distance from the first point
      * @param P2 Second point (satellite position)
-     * @param r2 Distance from the second point
      * @param P3 Third point (satellite position)
-     * @param r3 Distance from the third point
-     * @return {@code true} if trilateration is possible, {@code false} otherwise
+     * @return The precomputed constellation geometry
      */
-    private boolean isValidTrilateration(Point P1, double r1, Point P2, double r2, Point P3, double r3) {
-        double d12 = P1.distance(P2);
-        double d13 = P1.distance(P3);
-        double d23 = P2.distance(P3);
-        return (d12 <= r1 + r2 && d12 >= Math.abs(r1 - r2)) &&
-                (d13 <= r1 + r3 && d13 >= Math.abs(r1 - r3)) &&
-                (d23 <= r2 + r3 && d23 >= Math.abs(r2 - r3));
+    private ConstellationGeometry prepare(Point P1, Point P2, Point P3) {
+        ConstellationGeometry geometry = lastUsed;
+        if (geometry != null && geometry.matches(P1.getX(), P1.getY(), P2.getX(), P2.getY(), P3.getX(), P3.getY())) {
+            return geometry;
+        }
+
+        Key key = new Key(P1.getX(), P1.getY(), P2.getX(), P2.getY(), P3.getX(), P3.getY());
+        synchronized (geometries) {
+            geometry = geometries.get(key);
+        }
+        if (geometry == null) {
+            geometry = ConstellationGeometry.of(key.x1, key.y1, key.x2, key.y2, key.x3, key.y3);
+            if (maxConstellations > 0) {
+                synchronized (geometries) {
+                    geometries.put(key, geometry);
+                }
+            }
+        }
+        lastUsed = geometry;
+        return geometry;
+    }
+
+    /**
+     * Positions of the three satellites of a constellation, in order.
+     */
+    private static final class Key {
+        private final double x1;
+        private final double y1;
+        private final double x2;
+        private final double y2;
+        private final double x3;
+        private final double y3;
+
+        private Key(double x1, double y1, double x2, double y2, double x3, double y3) {
+            this.x1 = x1;
+            this.y1 = y1;
+            this.x2 = x2;
+            this.y2 = y2;
+            this.x3 = x3;
+            this.y3 = y3;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return Double.compare(x1, other.x1) == 0 && Double.compare(y1, other.y1) == 0
+                    && Double.compare(x2, other.x2) == 0 && Double.compare(y2, other.y2) == 0
+                    && Double.compare(x3, other.x3) == 0 && Double.compare(y3, other.y3) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Double.hashCode(x1);
+            result = 31 * result + Double.hashCode(y1);
+            result = 31 * result + Double.hashCode(x2);
+            result = 31 * result + Double.hashCode(y2);
+            result = 31 * result + Double.hashCode(x3);
+            result = 31 * result + Double.hashCode(y3);
+            return result;
+        }
     }
 }
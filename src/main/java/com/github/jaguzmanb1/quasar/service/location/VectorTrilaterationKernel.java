@@ -0,0 +1,108 @@
+package com.github.jaguzmanb1.quasar.service.location;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementation of {@link ConstellationGeometry#solveAll} using the incubating Vector API.
+ * <p>
+ * Each iteration solves as many fixes as fit in the preferred vector shape of the platform (four doubles
+ * with AVX2, eight with AVX-512). The arithmetic is performed in the same order as the scalar kernel and
+ * without fused multiply-adds, so both produce bit-identical results.
+ * <p>
+ * This class links against {@code jdk.incubator.vector} and must only be loaded when that module is
+ * present; use {@link BatchTrilaterationSolver}, which falls back to the scalar kernel otherwise.
+ */
+final class VectorTrilaterationKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorTrilaterationKernel() {
+    }
+
+    /**
+     * Gets the number of fixes solved per vector iteration.
+     *
+     * @return The number of lanes
+     */
+    static int lanes() {
+        return SPECIES.length();
+    }
+
+    /**
+     * Solves a batch of fixes stored in columns.
+     * Fixes whose distances do not form a valid trilateration are written as {@link Double#NaN}.
+     *
+     * @param geometry The constellation the distances refer to
+     * @param r1 Distances from the first satellite
+     * @param r2 Distances from the second satellite
+     * @param r3 Distances from the third satellite
+     * @param outX Array receiving the x coordinates
+     * @param outY Array receiving the y coordinates
+     * @param count Number of fixes to solve, starting at index 0
+     * @return The number of fixes that were solved
+     */
+    static int solveAll(ConstellationGeometry geometry, double[] r1, double[] r2, double[] r3,
+                        double[] outX, double[] outY, int count) {
+        if (geometry.isDegenerate()) {
+            return geometry.solveAll(r1, r2, r3, outX, outY, count);
+        }
+
+        double x1 = geometry.x1();
+        double y1 = geometry.y1();
+        double d12 = geometry.d12();
+        double d13 = geometry.d13();
+        double d23 = geometry.d23();
+        double exX = geometry.exX();
+        double exY = geometry.exY();
+        double eyX = geometry.eyX();
+        double eyY = geometry.eyY();
+        double dSquared = geometry.dSquared();
+        double ijSquared = geometry.ijSquared();
+        double inverseTwoD = geometry.inverseTwoD();
+        double inverseTwoJ = geometry.inverseTwoJ();
+        double iOverJ = geometry.iOverJ();
+        DoubleVector nan = DoubleVector.broadcast(SPECIES, Double.NaN);
+
+        int solved = 0;
+        int k = 0;
+        int upperBound = SPECIES.loopBound(count);
+        for (; k < upperBound; k += SPECIES.length()) {
+            DoubleVector a = DoubleVector.fromArray(SPECIES, r1, k);
+            DoubleVector b = DoubleVector.fromArray(SPECIES, r2, k);
+            DoubleVector c = DoubleVector.fromArray(SPECIES, r3, k);
+
+            // Every pair of circles must intersect: |ra - rb| <= dab <= ra + rb
+            VectorMask<Double> valid = a.add(b).compare(VectorOperators.GE, d12)
+                    .and(a.sub(b).abs().compare(VectorOperators.LE, d12))
+                    .and(a.add(c).compare(VectorOperators.GE, d13))
+                    .and(a.sub(c).abs().compare(VectorOperators.LE, d13))
+                    .and(b.add(c).compare(VectorOperators.GE, d23))
+                    .and(b.sub(c).abs().compare(VectorOperators.LE, d23));
+
+            DoubleVector aSquared = a.mul(a);
+            DoubleVector x = aSquared.sub(b.mul(b)).add(dSquared).mul(inverseTwoD);
+            DoubleVector y = aSquared.sub(c.mul(c)).add(ijSquared).mul(inverseTwoJ).sub(x.mul(iOverJ));
+
+            VectorMask<Double> invalid = valid.not();
+            x.mul(exX).add(x1).add(y.mul(eyX)).blend(nan, invalid).intoArray(outX, k);
+            x.mul(exY).add(y1).add(y.mul(eyY)).blend(nan, invalid).intoArray(outY, k);
+            solved += valid.trueCount();
+        }
+
+        double[] location = new double[2];
+        for (; k < count; k++) {
+            if (geometry.solve(r1[k], r2[k], r3[k], location)) {
+                outX[k] = location[0];
+                outY[k] = location[1];
+                solved++;
+            } else {
+                outX[k] = Double.NaN;
+                outY[k] = Double.NaN;
+            }
+        }
+        return solved;
+    }
+}
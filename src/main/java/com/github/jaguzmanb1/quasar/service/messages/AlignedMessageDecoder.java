@@ -0,0 +1,100 @@
+package com.github.jaguzmanb1.quasar.service.messages;
+
+import com.github.jaguzmanb1.quasar.exception.InvalidMessageException;
+
+import java.util.List;
+
+/**
+ * Offset-tolerant implementation of the MessageDecoderInterface.
+ * Satellites may receive the same transmission with a different number of leading gaps, so their fragment
+ * lists have different lengths and the same word appears at different absolute indexes. This decoder aligns
+ * the fragment lists before merging them, and rejects the message when two sources report different
+ * non-empty words for the same aligned position.
+ * <p>
+ * Every word is visited exactly once and slots are filled in a single array, so decoding costs
+ * O(total words) without building intermediate lists per position.
+ */
+public class AlignedMessageDecoder implements MessageDecoderInterface {
+
+    /**
+     * Strategy used to align fragment lists of different lengths.
+     */
+    public enum Alignment {
+        /**
+         * Fragments are aligned by absolute index, as done by {@link DefaultMessageDecoder}.
+         */
+        LEFT,
+        /**
+         * Fragments are aligned by their last position, so extra leading gaps are treated as an offset.
+         */
+        RIGHT
+    }
+
+    private final Alignment alignment;
+
+    /**
+     * Creates a decoder using the given alignment.
+     *
+     * @param alignment Strategy used to align fragment lists of different lengths.
+     */
+    public AlignedMessageDecoder(Alignment alignment) {
+        this.alignment = alignment;
+    }
+
+    /**
+     * Decodes a fragmented message from multiple sources, aligning the fragments before merging them.
+     * Null sources and null words are treated as empty.
+     *
+     * @param messages A list of lists, where each inner list represents a message fragment received from a source.
+     * @return The reconstructed message as a single string.
+     * @throws InvalidMessageException if two sources report different words for the same position.
+     */
+    @Override
+    public String decodeMessage(List<List<String>> messages) {
+        int maxLength = 0;
+        for (List<String> message : messages) {
+            if (message != null && message.size() > maxLength) {
+                maxLength = message.size();
+            }
+        }
+
+        String[] slots = new String[maxLength];
+        int filled = 0;
+        int characters = 0;
+        for (List<String> message : messages) {
+            if (message == null) {
+                continue;
+            }
+            int index = alignment == Alignment.RIGHT ? maxLength - message.size() : 0;
+            for (String word : message) {
+                if (word != null && !word.isEmpty()) {
+                    String current = slots[index];
+                    if (current == null) {
+                        slots[index] = word;
+                        filled++;
+                        characters += word.length();
+                    } else if (!current.equals(word)) {
+                        throw new InvalidMessageException("Error - Conflicting words at position " + index
+                                + ": '" + current + "' and '" + word + "'");
+                    }
+                }
+                index++;
+            }
+        }
+
+        if (filled == 0) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder(characters + filled - 1);
+        for (String word : slots) {
+            if (word != null) {
+                if (!builder.isEmpty()) {
+                    builder.append(' ');
+                }
+                builder.append(word);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.jaguzmanb1.quasar.service.messages;
+
+import java.util.List;
+
+/**
+ * Linear-time implementation of the MessageDecoderInterface.
+ * It produces the same output as {@link DefaultMessageDecoder}, selecting the first non-empty word at each
+ * index position, but walks every fragment exactly once with plain loops and builds the result in a
+ * single pre-sized {@link StringBuilder}, so decoding costs O(total words) instead of being quadratic
+ * in the message length.
+ */
+public class LinearMessageDecoder implements MessageDecoderInterface {
+
+    /**
+     * Decodes a fragmented message from multiple sources.
+     * Sources are visited in order and each slot keeps the first non-empty word found for it.
+     * Null sources and null words are treated as empty.
+     *
+     * @param messages A list of lists, where each inner list represents a message fragment received from a source.
+     * @return The reconstructed message as a single string.
+     */
+    @Override
+    public String decodeMessage(List<List<String>> messages) {
+        int maxLength = 0;
+        for (List<String> message : messages) {
+            if (message != null && message.size() > maxLength) {
+                maxLength = message.size();
+            }
+        }
+
+        String[] slots = new String[maxLength];
+        int filled = 0;
+        int characters = 0;
+        for (List<String> message : messages) {
+            if (message == null) {
+                continue;
+            }
+            int index = 0;
+            for (String word : message) {
+                if (slots[index] == null && word != null && !word.isEmpty()) {
+                    slots[index] = word;
+                    filled++;
+                    characters += word.length();
+                }
+                index++;
+            }
+            if (filled == maxLength) {
+                break;
+            }
+        }
+
+        if (filled == 0) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder(characters + filled - 1);
+        for (String word : slots) {
+            if (word != null) {
+                if (!builder.isEmpty()) {
+                    builder.append(' ');
+                }
+                builder.append(word);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.jaguzmanb1.quasar.service.messages;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorator of {@link MessageDecoderInterface} that records how long each message takes to decode.
+ */
+public class TimedMessageDecoder implements MessageDecoderInterface {
+
+    private final MessageDecoderInterface delegate;
+    private final Timer timer;
+
+    /**
+     * Creates a timed decoder.
+     *
+     * @param delegate The decoder doing the actual work.
+     * @param meterRegistry The registry the timer is registered in.
+     */
+    public TimedMessageDecoder(MessageDecoderInterface delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timer = Timer.builder("quasar.message.decoding")
+                .description("Time spent decoding a message")
+                .tag("decoder", delegate.getClass().getSimpleName())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String decodeMessage(List<List<String>> messages) {
+        long start = System.nanoTime();
+        try {
+            return delegate.decodeMessage(messages);
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
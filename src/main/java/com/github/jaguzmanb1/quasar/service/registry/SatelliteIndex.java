@@ -0,0 +1,189 @@
+package com.github.jaguzmanb1.quasar.service.registry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable two-dimensional k-d tree over satellite positions.
+ * <p>
+ * The tree is stored implicitly in three parallel arrays: the median of every range {@code [lo, hi)} sits at
+ * {@code (lo + hi) >>> 1}, points to its left have a coordinate on the splitting axis that is not greater
+ * and points to its right have one that is not smaller, alternating between x and y on every level. Building
+ * takes O(n log n) and range queries visit O(log n + k) nodes for k results on well-spread constellations,
+ * without allocating a node per satellite.
+ */
+final class SatelliteIndex {
+
+    static final SatelliteIndex EMPTY = new SatelliteIndex(new String[0], new int[0], new int[0]);
+
+    private final String[] names;
+    private final int[] xs;
+    private final int[] ys;
+
+    private SatelliteIndex(String[] names, int[] xs, int[] ys) {
+        this.names = names;
+        this.xs = xs;
+        this.ys = ys;
+    }
+
+    /**
+     * Builds an index over the given positions. The arrays are copied.
+     *
+     * @param names Names of the satellites.
+     * @param xs X coordinates, by satellite.
+     * @param ys Y coordinates, by satellite.
+     * @return The index.
+     */
+    static SatelliteIndex build(String[] names, int[] xs, int[] ys) {
+        SatelliteIndex index = new SatelliteIndex(names.clone(), xs.clone(), ys.clone());
+        index.build(0, names.length, 0);
+        return index;
+    }
+
+    /**
+     * Gets the number of indexed satellites.
+     *
+     * @return The size of the index.
+     */
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * Finds the satellites within a distance of a point, boundary included.
+     *
+     * @param x X coordinate of the center.
+     * @param y Y coordinate of the center.
+     * @param radius Maximum distance.
+     * @return Names of the satellites found, in no particular order.
+     */
+    List<String> withinRange(double x, double y, double radius) {
+        List<String> found = new ArrayList<>();
+        if (radius >= 0) {
+            withinRange(0, names.length, 0, x, y, radius, radius * radius, found);
+        }
+        return found;
+    }
+
+    /**
+     * Finds the satellites inside an axis-aligned rectangle, boundary included.
+     *
+     * @param minX Smallest X coordinate.
+     * @param minY Smallest Y coordinate.
+     * @param maxX Largest X coordinate.
+     * @param maxY Largest Y coordinate.
+     * @return Names of the satellites found, in no particular order.
+     */
+    List<String> withinRegion(double minX, double minY, double maxX, double maxY) {
+        List<String> found = new ArrayList<>();
+        withinRegion(0, names.length, 0, minX, minY, maxX, maxY, found);
+        return found;
+    }
+
+    private void withinRange(int lo, int hi, int depth, double x, double y, double radius, double radiusSquared,
+                             List<String> found) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            double dx = xs[mid] - x;
+            double dy = ys[mid] - y;
+            if (dx * dx + dy * dy <= radiusSquared) {
+                found.add(names[mid]);
+            }
+
+            double delta = (depth & 1) == 0 ? x - xs[mid] : y - ys[mid];
+            boolean left = delta <= radius;
+            boolean right = delta >= -radius;
+            if (left && right) {
+                withinRange(lo, mid, depth + 1, x, y, radius, radiusSquared, found);
+                lo = mid + 1;
+            } else if (left) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+            depth++;
+        }
+    }
+
+    private void withinRegion(int lo, int hi, int depth, double minX, double minY, double maxX, double maxY,
+                              List<String> found) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (xs[mid] >= minX && xs[mid] <= maxX && ys[mid] >= minY && ys[mid] <= maxY) {
+                found.add(names[mid]);
+            }
+
+            boolean xAxis = (depth & 1) == 0;
+            double split = xAxis ? xs[mid] : ys[mid];
+            boolean left = (xAxis ? minX : minY) <= split;
+            boolean right = (xAxis ? maxX : maxY) >= split;
+            if (left && right) {
+                withinRegion(lo, mid, depth + 1, minX, minY, maxX, maxY, found);
+                lo = mid + 1;
+            } else if (left) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+            depth++;
+        }
+    }
+
+    /**
+     * Arranges the range {@code [lo, hi)} so that its median on the splitting axis of the level is in the
+     * middle, then does the same for both halves.
+     */
+    private void build(int lo, int hi, int depth) {
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            int[] keys = (depth & 1) == 0 ? xs : ys;
+            select(keys, lo, hi - 1, mid);
+            build(lo, mid, depth + 1);
+            lo = mid + 1;
+            depth++;
+        }
+    }
+
+    /**
+     * Moves the k-th smallest key of {@code [left, right]} to position k using a three-way quickselect, so
+     * that smaller or equal keys end up before it and greater or equal keys after it. Runs of equal keys,
+     * common when satellites are aligned, are settled in a single pass.
+     */
+    private void select(int[] keys, int left, int right, int k) {
+        while (left < right) {
+            int pivot = keys[left + ((right - left) >>> 1)];
+            int lt = left;
+            int gt = right;
+            int i = left;
+            while (i <= gt) {
+                if (keys[i] < pivot) {
+                    swap(lt++, i++);
+                } else if (keys[i] > pivot) {
+                    swap(i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (k < lt) {
+                right = lt - 1;
+            } else if (k > gt) {
+                left = gt + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int i, int j) {
+        String name = names[i];
+        names[i] = names[j];
+        names[j] = name;
+        int x = xs[i];
+        xs[i] = xs[j];
+        xs[j] = x;
+        int y = ys[i];
+        ys[i] = ys[j];
+        ys[j] = y;
+    }
+}
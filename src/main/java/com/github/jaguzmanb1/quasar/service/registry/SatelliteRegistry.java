@@ -0,0 +1,383 @@
+package com.github.jaguzmanb1.quasar.service.registry;
+
+import com.github.jaguzmanb1.quasar.entity.Satellite;
+import com.github.jaguzmanb1.quasar.exception.SatelliteNotFoundException;
+import com.github.jaguzmanb1.quasar.repository.SatelliteRepositoryInterface;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-through / write-through in-memory registry of satellites.
+ * Satellites are kept in an immutable snapshot keyed by name which is swapped atomically on every write,
+ * so lookups on the hot path never touch the database once a satellite has been loaded.
+ * Each snapshot also carries a k-d tree over the satellite positions, built on the first spatial query
+ * after the positions change, so range queries do not scan the whole constellation.
+ * The database remains the source of truth: misses are loaded from the repository and writes are saved
+ * to the repository before being published in a new snapshot.
+ * <p>
+ * Satellites returned by this registry are shared between threads and must be treated as read-only.
+ */
+public class SatelliteRegistry implements MeterBinder {
+
+    private final SatelliteRepositoryInterface satelliteRepository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    /**
+     * Constructor to inject dependencies.
+     * @param satelliteRepository Repository interface used as the source of truth.
+     */
+    public SatelliteRegistry(SatelliteRepositoryInterface satelliteRepository) {
+        this.satelliteRepository = satelliteRepository;
+    }
+
+    /**
+     * Reloads the whole registry from the database and replaces the current snapshot.
+     */
+    public void refresh() {
+        List<Satellite> satellites = satelliteRepository.findAll();
+        snapshot.updateAndGet(current -> Snapshot.of(satellites, current.positionsVersion + 1));
+        refreshes.increment();
+    }
+
+    /**
+     * Retrieves the satellites with the given names.
+     * Satellites not present in the snapshot are loaded from the database in a single query.
+     * @param names The names of the satellites to retrieve.
+     * @return The satellites found, in registration order.
+     */
+    public List<Satellite> findAllByNameIn(Set<String> names) {
+        Snapshot current = snapshot.get();
+
+        Set<String> missing = null;
+        for (String name : names) {
+            if (!current.byName.containsKey(name)) {
+                if (missing == null) {
+                    missing = new HashSet<>();
+                }
+                missing.add(name);
+            }
+        }
+
+        if (missing == null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            current = publish(satelliteRepository.findAllByNameIn(missing), false);
+        }
+
+        return current.select(names);
+    }
+
+    /**
+     * Retrieves a satellite by name, loading it from the database on a miss.
+     * @param name The name of the satellite.
+     * @return The satellite, or empty if it does not exist.
+     */
+    public Optional<Satellite> findByName(String name) {
+        Satellite satellite = snapshot.get().byName.get(name);
+        if (satellite != null) {
+            hits.increment();
+            return Optional.of(satellite);
+        }
+
+        misses.increment();
+        Optional<Satellite> loaded = satelliteRepository.findByName(name);
+        loaded.ifPresent(s -> publish(List.of(s), false));
+        return loaded;
+    }
+
+    /**
+     * Retrieves every satellite known to the registry, loading the whole table if it was never loaded.
+     * @return List of all satellites, in registration order.
+     */
+    public List<Satellite> findAll() {
+        return List.copyOf(completeSnapshot().byName.values());
+    }
+
+    /**
+     * Saves a satellite to the database and publishes it in a new snapshot.
+     * @param satellite The satellite to save. It must not be modified after this call.
+     * @return The saved satellite.
+     */
+    public Satellite save(Satellite satellite) {
+        satelliteRepository.save(satellite);
+        publish(List.of(satellite), true);
+        return satellite;
+    }
+
+    /**
+     * Deletes a satellite from the database and removes it from the registry.
+     * @param name The name of the satellite to delete.
+     * @return {@code true} if the satellite existed.
+     */
+    public boolean delete(String name) {
+        Optional<Satellite> stored = satelliteRepository.findByName(name);
+        stored.ifPresent(satelliteRepository::delete);
+        snapshot.updateAndGet(current -> current.without(name));
+        return stored.isPresent();
+    }
+
+    /**
+     * Retrieves the satellites within a distance of a point, loading the whole table if it was never loaded.
+     * @param x X coordinate of the center.
+     * @param y Y coordinate of the center.
+     * @param radius Maximum distance, boundary included.
+     * @return The satellites found, nearest first.
+     */
+    public List<Satellite> findWithinRange(double x, double y, double radius) {
+        Snapshot current = completeSnapshot();
+        List<Satellite> found = current.resolve(current.index().withinRange(x, y, radius));
+        found.sort(Comparator.comparingDouble(s -> Math.hypot(s.getPositionX() - x, s.getPositionY() - y)));
+        return found;
+    }
+
+    /**
+     * Retrieves the satellites inside an axis-aligned rectangle, loading the whole table if it was never loaded.
+     * @param minX Smallest X coordinate.
+     * @param minY Smallest Y coordinate.
+     * @param maxX Largest X coordinate.
+     * @param maxY Largest Y coordinate.
+     * @return The satellites found, in registration order.
+     */
+    public List<Satellite> findInRegion(double minX, double minY, double maxX, double maxY) {
+        Snapshot current = completeSnapshot();
+        List<Satellite> found = current.resolve(current.index().withinRegion(minX, minY, maxX, maxY));
+        found.sort(Comparator.comparingInt(s -> current.order.get(s.getName())));
+        return found;
+    }
+
+    /**
+     * Updates the distance and message of a satellite, writing through to the database.
+     * The cached instance is never modified; a copy is saved and published instead.
+     * @param name The name of the satellite to update.
+     * @param distance The new distance.
+     * @param receivedMessage The new message fragments.
+     * @return The updated satellite.
+     */
+    public Satellite updateReading(String name, double distance, List<String> receivedMessage) {
+        Satellite current = findByName(name)
+                .orElseThrow(() -> new SatelliteNotFoundException(name));
+
+        Satellite updated = new Satellite(current);
+        updated.setDistance(distance);
+        updated.setReceivedMessage(receivedMessage);
+        return save(updated);
+    }
+
+    /**
+     * Gets the version of the satellite positions. It changes whenever a satellite is saved for the first
+     * time, moved, deleted or reloaded from the database, so results derived from satellite positions can be
+     * tagged with it and discarded once it changes. Loading a satellite on a miss does not change it.
+     * @return The positions version.
+     */
+    public long getPositionsVersion() {
+        return snapshot.get().positionsVersion;
+    }
+
+    /**
+     * Gets the number of lookups served from the snapshot.
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that had to go to the database.
+     * @return The miss count.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of full reloads of the registry.
+     * @return The refresh count.
+     */
+    public long getRefreshes() {
+        return refreshes.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("satellite.registry.lookups", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Satellite lookups served from the in-memory snapshot")
+                .register(registry);
+        FunctionCounter.builder("satellite.registry.lookups", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Satellite lookups that required a database query")
+                .register(registry);
+        FunctionCounter.builder("satellite.registry.refreshes", refreshes, LongAdder::sum)
+                .description("Full reloads of the satellite registry")
+                .register(registry);
+        Gauge.builder("satellite.registry.size", snapshot, s -> s.get().byName.size())
+                .description("Number of satellites held in the registry")
+                .register(registry);
+    }
+
+    /**
+     * Gets the current snapshot, loading the whole table first if it was never loaded.
+     * @return A snapshot holding every satellite.
+     */
+    private Snapshot completeSnapshot() {
+        Snapshot current = snapshot.get();
+        if (!current.complete) {
+            refresh();
+            current = snapshot.get();
+        }
+        return current;
+    }
+
+    /**
+     * Merges the given satellites into the current snapshot and swaps it atomically.
+     * @param satellites The satellites to publish.
+     * @param added Whether the satellites are being written, so that a satellite new to the snapshot counts
+     *              as a position change. Satellites loaded on a miss were already in the database, and
+     *              loading them does not change any position that a result could have been derived from.
+     * @return The snapshot that includes the published satellites.
+     */
+    private Snapshot publish(List<Satellite> satellites, boolean added) {
+        return snapshot.updateAndGet(current -> current.with(satellites, added));
+    }
+
+    /**
+     * Immutable view of the registry contents.
+     */
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), false, 0, SatelliteIndex.EMPTY);
+
+        private final Map<String, Satellite> byName;
+        private final Map<String, Integer> order;
+        private final boolean complete;
+        private final long positionsVersion;
+
+        /**
+         * Spatial index of the positions, or null until the first spatial query. Building it twice when
+         * two threads race is harmless, since both results are equal.
+         */
+        private volatile SatelliteIndex index;
+
+        private Snapshot(Map<String, Satellite> byName, Map<String, Integer> order, boolean complete,
+                         long positionsVersion, SatelliteIndex index) {
+            this.byName = byName;
+            this.order = order;
+            this.complete = complete;
+            this.positionsVersion = positionsVersion;
+            this.index = index;
+        }
+
+        /**
+         * Creates a complete snapshot holding exactly the given satellites.
+         */
+        private static Snapshot of(List<Satellite> satellites, long positionsVersion) {
+            Snapshot merged = EMPTY.with(satellites, false);
+            return new Snapshot(merged.byName, merged.order, true, positionsVersion, null);
+        }
+
+        /**
+         * Creates a new snapshot containing the given satellites, replacing those with the same name.
+         * The positions version is bumped when a satellite moves, or when it is new and {@code added} is set.
+         */
+        private Snapshot with(List<Satellite> satellites, boolean added) {
+            Map<String, Satellite> newByName = new LinkedHashMap<>(byName);
+            Map<String, Integer> newOrder = new LinkedHashMap<>(order);
+            boolean moved = false;
+            boolean appeared = false;
+            for (Satellite satellite : satellites) {
+                Satellite previous = newByName.put(satellite.getName(), satellite);
+                newOrder.putIfAbsent(satellite.getName(), newOrder.size());
+                if (previous == null) {
+                    appeared = true;
+                } else {
+                    moved |= previous.getPositionX() != satellite.getPositionX()
+                            || previous.getPositionY() != satellite.getPositionY();
+                }
+            }
+            long version = moved || (appeared && added) ? positionsVersion + 1 : positionsVersion;
+            return new Snapshot(newByName, newOrder, complete, version, moved || appeared ? null : index);
+        }
+
+        /**
+         * Creates a new snapshot without the satellite with the given name.
+         */
+        private Snapshot without(String name) {
+            if (!byName.containsKey(name)) {
+                return this;
+            }
+            Map<String, Satellite> newByName = new LinkedHashMap<>(byName);
+            newByName.remove(name);
+            Map<String, Integer> newOrder = new LinkedHashMap<>();
+            for (String remaining : newByName.keySet()) {
+                newOrder.put(remaining, newOrder.size());
+            }
+            return new Snapshot(newByName, newOrder, complete, positionsVersion + 1, null);
+        }
+
+        /**
+         * Gets the spatial index of the snapshot, building it on first use.
+         */
+        private SatelliteIndex index() {
+            SatelliteIndex current = index;
+            if (current == null) {
+                int size = byName.size();
+                String[] names = new String[size];
+                int[] xs = new int[size];
+                int[] ys = new int[size];
+                int i = 0;
+                for (Satellite satellite : byName.values()) {
+                    names[i] = satellite.getName();
+                    xs[i] = satellite.getPositionX();
+                    ys[i] = satellite.getPositionY();
+                    i++;
+                }
+                current = SatelliteIndex.build(names, xs, ys);
+                index = current;
+            }
+            return current;
+        }
+
+        /**
+         * Maps names returned by the index to the satellites of this snapshot.
+         */
+        private List<Satellite> resolve(List<String> names) {
+            List<Satellite> satellites = new ArrayList<>(names.size());
+            for (String name : names) {
+                satellites.add(byName.get(name));
+            }
+            return satellites;
+        }
+
+        /**
+         * Selects the satellites with the given names, keeping registration order.
+         */
+        private List<Satellite> select(Set<String> names) {
+            List<Satellite> selected = new ArrayList<>(names.size());
+            for (String name : names) {
+                Satellite satellite = byName.get(name);
+                if (satellite != null) {
+                    selected.add(satellite);
+                }
+            }
+            selected.sort(Comparator.comparingInt(s -> order.get(s.getName())));
+            return selected;
+        }
+    }
+}
@@ -0,0 +1,539 @@
+package com.github.jaguzmanb1.quasar.service.replay;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.jaguzmanb1.quasar.dto.SpaceShipInfoDTO;
+import com.github.jaguzmanb1.quasar.dto.TopSecretRequestDTO;
+import com.github.jaguzmanb1.quasar.exception.InvalidIntersectionException;
+import com.github.jaguzmanb1.quasar.exception.InvalidMessageException;
+import com.github.jaguzmanb1.quasar.service.location.BatchTrilaterationSolver;
+import com.github.jaguzmanb1.quasar.service.location.ConstellationGeometry;
+import com.github.jaguzmanb1.quasar.service.location.LocationCalculatorInterface;
+import com.github.jaguzmanb1.quasar.service.location.LocationEstimate;
+import com.github.jaguzmanb1.quasar.service.location.TrilaterationCalculator;
+import com.github.jaguzmanb1.quasar.service.messages.MessageDecoderInterface;
+
+import java.awt.*;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Re-solves archives of top-secret requests stored as newline-delimited JSON, one request per line.
+ * <p>
+ * The input file is split into chunks of roughly the configured size, always ending on a line boundary,
+ * and every chunk is memory-mapped and solved by a worker of a fork-join pool. Each worker writes its
+ * results to its own part file, and the parts are concatenated in order at the end, so the output has one
+ * result per input line, in input order, in the same format as the NDJSON stream endpoint.
+ * <p>
+ * Satellite positions are fixed for the whole run, since archives are replayed offline without a database.
+ * When batch trilateration is enabled, the records of a chunk are read a block at a time and the
+ * three-satellite records of the block that share a constellation are solved together with
+ * {@link BatchTrilaterationSolver}. Records it cannot solve, and every other record, go through the location
+ * calculator one by one, so the results are the same either way.
+ */
+public class FixArchiveReplayer {
+
+    private static final byte NEWLINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final int BLOCK_SIZE = 1024;
+
+    private final LocationCalculatorInterface locationCalculator;
+    private final MessageDecoderInterface messageDecoder;
+    private final Map<String, Point> positions;
+    private final ObjectReader requestReader;
+    private final JsonFactory jsonFactory;
+    private final int parallelism;
+    private final long chunkSize;
+    private final boolean batchTrilateration;
+    private final Map<List<String>, ConstellationGeometry> geometries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a replayer.
+     *
+     * @param locationCalculator Calculator used to solve the positions.
+     * @param messageDecoder Decoder used to reconstruct the messages.
+     * @param positions Position of each satellite by name.
+     * @param objectMapper Mapper used to read the records.
+     * @param parallelism Number of worker threads.
+     * @param chunkSize Approximate number of bytes of input solved by each task.
+     * @param batchTrilateration Whether three-satellite records are solved in bulk. Only enable it when the
+     *                           location calculator solves three satellites like {@link TrilaterationCalculator}.
+     */
+    public FixArchiveReplayer(LocationCalculatorInterface locationCalculator, MessageDecoderInterface messageDecoder,
+                              Map<String, Point> positions, ObjectMapper objectMapper, int parallelism,
+                              long chunkSize, boolean batchTrilateration) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+        }
+        if (chunkSize < 1 || chunkSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 byte and 2 GiB.");
+        }
+        this.locationCalculator = locationCalculator;
+        this.messageDecoder = messageDecoder;
+        this.positions = Map.copyOf(positions);
+        this.requestReader = objectMapper.readerFor(TopSecretRequestDTO.class);
+        this.jsonFactory = objectMapper.getFactory();
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.batchTrilateration = batchTrilateration;
+    }
+
+    /**
+     * Replays every record of the input and writes the results to the output.
+     *
+     * @param input NDJSON file of top-secret requests.
+     * @param output File receiving one NDJSON result per request. It is replaced if it exists.
+     * @return The summary of the run.
+     * @throws IOException if reading the input or writing the output fails.
+     */
+    public ReplayReport replay(Path input, Path output) throws IOException {
+        long start = System.nanoTime();
+        Path directory = output.toAbsolutePath().getParent();
+        Path parts = Files.createTempDirectory(directory, output.getFileName() + ".parts");
+
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            List<long[]> chunks = split(channel);
+
+            List<ForkJoinTask<ChunkResult>> tasks = new ArrayList<>(chunks.size());
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                for (int i = 0; i < chunks.size(); i++) {
+                    long[] chunk = chunks.get(i);
+                    Path part = parts.resolve(i + ".ndjson");
+                    tasks.add(pool.submit(() -> replayChunk(channel, chunk[0], chunk[1], part)));
+                }
+
+                long records = 0;
+                long failures = 0;
+                for (ForkJoinTask<ChunkResult> task : tasks) {
+                    ChunkResult result = await(task);
+                    records += result.records;
+                    failures += result.failures;
+                }
+
+                concatenate(parts, chunks.size(), output);
+                return new ReplayReport(records, failures, chunks.size(), parallelism, System.nanoTime() - start);
+            } finally {
+                pool.shutdownNow();
+            }
+        } finally {
+            try (var leftovers = Files.list(parts)) {
+                for (Path leftover : leftovers.toList()) {
+                    Files.deleteIfExists(leftover);
+                }
+            }
+            Files.deleteIfExists(parts);
+        }
+    }
+
+    /**
+     * Splits the input into chunks of about {@code chunkSize} bytes that end right after a newline.
+     *
+     * @return The start (inclusive) and end (exclusive) offsets of each chunk.
+     */
+    private List<long[]> split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<long[]> chunks = new ArrayList<>();
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+
+        long start = 0;
+        while (start < size) {
+            long end = Math.min(start + chunkSize, size);
+            if (end < size) {
+                end = nextLineStart(channel, end, probe);
+            }
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IOException("Line starting at offset " + start + " is too long to be replayed.");
+            }
+            chunks.add(new long[]{start, end});
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * Finds the offset right after the first newline at or after the given position.
+     */
+    private static long nextLineStart(FileChannel channel, long position, ByteBuffer probe) throws IOException {
+        long offset = position;
+        while (true) {
+            probe.clear();
+            int read = channel.read(probe, offset);
+            if (read < 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == NEWLINE) {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+    }
+
+    /**
+     * Solves every record of a chunk and writes the results to a part file.
+     */
+    private ChunkResult replayChunk(FileChannel channel, long start, long end, Path part) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        byte[] line = new byte[4096];
+        Block block = new Block();
+        long records = 0;
+        long failures = 0;
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part), 1 << 16);
+             JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+
+            int limit = buffer.limit();
+            int lineStart = 0;
+            while (lineStart < limit) {
+                int lineEnd = lineStart;
+                while (lineEnd < limit && buffer.get(lineEnd) != NEWLINE) {
+                    lineEnd++;
+                }
+
+                int length = lineEnd - lineStart;
+                if (length > 0 && buffer.get(lineEnd - 1) == CARRIAGE_RETURN) {
+                    length--;
+                }
+                if (length > 0) {
+                    if (line.length < length) {
+                        line = new byte[Math.max(length, line.length * 2)];
+                    }
+                    buffer.get(lineStart, line, 0, length);
+
+                    read(line, length, block);
+                    records++;
+                    if (block.count == BLOCK_SIZE) {
+                        failures += solve(block, generator);
+                    }
+                }
+                lineStart = lineEnd + 1;
+            }
+            failures += solve(block, generator);
+        }
+
+        return new ChunkResult(records, failures);
+    }
+
+    /**
+     * Reads a single record into the block, or the reason it could not be read.
+     */
+    private void read(byte[] line, int length, Block block) throws IOException {
+        try {
+            TopSecretRequestDTO request = requestReader.readValue(line, 0, length);
+            if (request == null) {
+                block.add(null, "Invalid record: expected a JSON object.");
+            } else {
+                block.add(request.getSatellites(), null);
+            }
+        } catch (JsonProcessingException ex) {
+            block.add(null, "Invalid record: " + ex.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Solves every record of the block, writes their results in order and empties the block.
+     *
+     * @return The number of records for which an error was written.
+     */
+    private long solve(Block block, JsonGenerator generator) throws IOException {
+        if (batchTrilateration) {
+            trilaterate(block);
+        }
+
+        long failures = 0;
+        for (int i = 0; i < block.count; i++) {
+            String error = block.errors[i];
+            if (error == null) {
+                try {
+                    List<SpaceShipInfoDTO> infos = block.satellites[i];
+                    Point location = block.locations[i];
+                    writeSuccess(generator, location != null
+                            ? new Solution(location, decode(infos), null)
+                            : solve(infos));
+                } catch (InvalidIntersectionException | InvalidMessageException | IllegalArgumentException | IllegalStateException ex) {
+                    error = ex.getMessage();
+                }
+            }
+            if (error != null) {
+                generator.writeStartObject();
+                generator.writeStringField("error", error);
+                generator.writeEndObject();
+                failures++;
+            }
+            generator.writeRaw('\n');
+        }
+
+        block.clear();
+        return failures;
+    }
+
+    /**
+     * Locates the three-satellite records of the block with {@link BatchTrilaterationSolver}, one batch per
+     * constellation. Records whose distances do not intersect are left for the location calculator, which
+     * reports why they cannot be solved.
+     */
+    private void trilaterate(Block block) {
+        Map<ConstellationGeometry, Columns> batches = new IdentityHashMap<>();
+        for (int i = 0; i < block.count; i++) {
+            List<SpaceShipInfoDTO> infos = block.satellites[i];
+            ConstellationGeometry geometry = block.errors[i] == null ? geometry(infos) : null;
+            if (geometry != null) {
+                batches.computeIfAbsent(geometry, g -> new Columns()).add(i, infos);
+            }
+        }
+
+        for (Map.Entry<ConstellationGeometry, Columns> batch : batches.entrySet()) {
+            Columns columns = batch.getValue();
+            BatchTrilaterationSolver.solveAll(batch.getKey(), columns.r1, columns.r2, columns.r3,
+                    columns.x, columns.y, columns.count);
+            for (int k = 0; k < columns.count; k++) {
+                if (!Double.isNaN(columns.x[k])) {
+                    block.locations[columns.slots[k]] =
+                            new Point((int) Math.round(columns.x[k]), (int) Math.round(columns.y[k]));
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the geometry of a record made of exactly three distinct known satellites with their distances and
+     * messages, in the order they appear in the record.
+     *
+     * @return The geometry, or null if the record must be solved on its own.
+     */
+    private ConstellationGeometry geometry(List<SpaceShipInfoDTO> infos) {
+        if (infos == null || infos.size() != 3) {
+            return null;
+        }
+        for (SpaceShipInfoDTO info : infos) {
+            if (info == null || info.getName() == null || !positions.containsKey(info.getName())
+                    || !info.hasDistance() || info.getMessage() == null) {
+                return null;
+            }
+        }
+        String first = infos.get(0).getName();
+        String second = infos.get(1).getName();
+        String third = infos.get(2).getName();
+        if (first.equals(second) || first.equals(third) || second.equals(third)) {
+            return null;
+        }
+
+        ConstellationGeometry geometry = geometries.computeIfAbsent(List.of(first, second, third), names -> {
+            Point p1 = positions.get(names.get(0));
+            Point p2 = positions.get(names.get(1));
+            Point p3 = positions.get(names.get(2));
+            return ConstellationGeometry.of(p1.getX(), p1.getY(), p2.getX(), p2.getY(), p3.getX(), p3.getY());
+        });
+        return geometry.isDegenerate() ? null : geometry;
+    }
+
+    private String decode(List<SpaceShipInfoDTO> infos) {
+        List<List<String>> messages = new ArrayList<>(infos.size());
+        for (SpaceShipInfoDTO info : infos) {
+            messages.add(info.getMessage());
+        }
+        return messageDecoder.decodeMessage(messages);
+    }
+
+    /**
+     * Determines the location and message of a record, following the same rules as batch requests:
+     * every satellite must be known and carry a distance and a message, three of them are trilaterated and
+     * more are estimated together.
+     */
+    private Solution solve(List<SpaceShipInfoDTO> infos) {
+        if (infos == null || infos.size() < 3) {
+            throw new IllegalArgumentException("At least three satellites are required.");
+        }
+
+        Map<String, Double> distances = new HashMap<>();
+        List<String> names = new ArrayList<>(infos.size());
+        for (SpaceShipInfoDTO info : infos) {
+            if (info == null) {
+                throw new IllegalArgumentException("Invalid record: satellite entries cannot be null.");
+            }
+            if (info.getName() == null || !positions.containsKey(info.getName())) {
+                throw new IllegalArgumentException("Missing required satellites in database.");
+            }
+            if (!info.hasDistance()) {
+                throw new IllegalArgumentException("Satellite " + info.getName() + " is missing distance data.");
+            }
+            if (info.getMessage() == null) {
+                throw new IllegalArgumentException("Satellite " + info.getName() + " is missing message data.");
+            }
+            if (distances.put(info.getName(), info.getDistance()) != null) {
+                throw new IllegalArgumentException("Duplicate satellite: " + info.getName());
+            }
+            names.add(info.getName());
+        }
+
+        Point location;
+        Double residual = null;
+        if (names.size() == 3) {
+            location = locationCalculator.calculateLocation(
+                    positions.get(names.get(0)), distances.get(names.get(0)),
+                    positions.get(names.get(1)), distances.get(names.get(1)),
+                    positions.get(names.get(2)), distances.get(names.get(2)));
+        } else {
+            int count = names.size();
+            double[] xs = new double[count];
+            double[] ys = new double[count];
+            double[] ranges = new double[count];
+            for (int k = 0; k < count; k++) {
+                Point position = positions.get(names.get(k));
+                xs[k] = position.getX();
+                ys[k] = position.getY();
+                ranges[k] = distances.get(names.get(k));
+            }
+            LocationEstimate estimate = locationCalculator.estimateLocation(xs, ys, ranges, count);
+            location = new Point((int) Math.round(estimate.getX()), (int) Math.round(estimate.getY()));
+            residual = estimate.getResidual();
+        }
+
+        return new Solution(location, decode(infos), residual);
+    }
+
+    private static void writeSuccess(JsonGenerator generator, Solution solution) throws IOException {
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("position");
+        generator.writeNumberField("x", solution.location.getX());
+        generator.writeNumberField("y", solution.location.getY());
+        generator.writeEndObject();
+        generator.writeStringField("message", solution.message);
+        if (solution.residual != null) {
+            generator.writeNumberField("residual", solution.residual);
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Concatenates the part files in chunk order into the output file.
+     */
+    private static void concatenate(Path parts, int count, Path output) throws IOException {
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (int i = 0; i < count; i++) {
+                Path part = parts.resolve(i + ".ndjson");
+                try (FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+                    long size = in.size();
+                    long position = 0;
+                    while (position < size) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                }
+                Files.delete(part);
+            }
+        }
+    }
+
+    private static ChunkResult await(ForkJoinTask<ChunkResult> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Replay interrupted", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IllegalStateException("Replay failed", ex.getCause());
+        }
+    }
+
+    /**
+     * Number of records and failures of a chunk.
+     */
+    private static final class ChunkResult {
+        private final long records;
+        private final long failures;
+
+        private ChunkResult(long records, long failures) {
+            this.records = records;
+            this.failures = failures;
+        }
+    }
+
+    /**
+     * Records read from a chunk and not yet written: either the satellites of the record or the reason it
+     * could not be read, and the location found by batch trilateration, if any.
+     */
+    private static final class Block {
+        @SuppressWarnings("unchecked")
+        private final List<SpaceShipInfoDTO>[] satellites = new List[BLOCK_SIZE];
+        private final String[] errors = new String[BLOCK_SIZE];
+        private final Point[] locations = new Point[BLOCK_SIZE];
+        private int count;
+
+        private void add(List<SpaceShipInfoDTO> infos, String error) {
+            satellites[count] = infos;
+            errors[count] = error;
+            count++;
+        }
+
+        private void clear() {
+            Arrays.fill(satellites, 0, count, null);
+            Arrays.fill(errors, 0, count, null);
+            Arrays.fill(locations, 0, count, null);
+            count = 0;
+        }
+    }
+
+    /**
+     * Distances of the records of a block that share a constellation, stored in columns, and the position of
+     * each record in the block.
+     */
+    private static final class Columns {
+        private final int[] slots = new int[BLOCK_SIZE];
+        private final double[] r1 = new double[BLOCK_SIZE];
+        private final double[] r2 = new double[BLOCK_SIZE];
+        private final double[] r3 = new double[BLOCK_SIZE];
+        private final double[] x = new double[BLOCK_SIZE];
+        private final double[] y = new double[BLOCK_SIZE];
+        private int count;
+
+        private void add(int slot, List<SpaceShipInfoDTO> infos) {
+            slots[count] = slot;
+            r1[count] = infos.get(0).getDistance();
+            r2[count] = infos.get(1).getDistance();
+            r3[count] = infos.get(2).getDistance();
+            count++;
+        }
+    }
+
+    /**
+     * Location, message and residual of a solved record.
+     */
+    private static final class Solution {
+        private final Point location;
+        private final String message;
+        private final Double residual;
+
+        private Solution(Point location, String message, Double residual) {
+            this.location = location;
+            this.message = message;
+            this.residual = residual;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.jaguzmanb1.quasar.service.replay;
+
+import java.util.Locale;
+
+/**
+ * Summary of a replay run.
+ */
+public final class ReplayReport {
+
+    private final long records;
+    private final long failures;
+    private final int chunks;
+    private final int parallelism;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a report.
+     *
+     * @param records Number of records replayed.
+     * @param failures Number of records that could not be solved.
+     * @param chunks Number of chunks the input was split into.
+     * @param parallelism Number of worker threads used.
+     * @param elapsedNanos Wall-clock time of the run, in nanoseconds.
+     */
+    public ReplayReport(long records, long failures, int chunks, int parallelism, long elapsedNanos) {
+        this.records = records;
+        this.failures = failures;
+        this.chunks = chunks;
+        this.parallelism = parallelism;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the number of records replayed.
+     *
+     * @return The record count.
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * Gets the number of records that could not be solved.
+     *
+     * @return The failure count.
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Gets the number of chunks the input was split into.
+     *
+     * @return The chunk count.
+     */
+    public int getChunks() {
+        return chunks;
+    }
+
+    /**
+     * Gets the number of worker threads used.
+     *
+     * @return The parallelism.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Gets the throughput of the whole run.
+     *
+     * @return Records solved per second.
+     */
+    public double recordsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : records * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Gets the throughput of a single worker thread.
+     *
+     * @return Records solved per second and core.
+     */
+    public double recordsPerSecondPerCore() {
+        return recordsPerSecond() / parallelism;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "%d records (%d failed) in %d chunks, %.3f s on %d cores: %.0f records/s, %.0f records/s per core",
+                records, failures, chunks, elapsedNanos / 1e9, parallelism,
+                recordsPerSecond(), recordsPerSecondPerCore());
+    }
+}
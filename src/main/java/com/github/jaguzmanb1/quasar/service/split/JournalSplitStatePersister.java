@@ -0,0 +1,467 @@
+package com.github.jaguzmanb1.quasar.service.split;
+
+import com.github.jaguzmanb1.quasar.entity.MessageFragmentsConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Implementation of {@link SplitStatePersisterInterface} that appends readings to a memory-mapped journal
+ * instead of updating the satellite rows.
+ * <p>
+ * The journal is a pair of files. {@code split-<generation>.journal} holds a 16 byte header (magic, format
+ * version and generation) followed by fixed-size 32 byte records: type, satellite id, distance, offset and
+ * length of a blob in {@code split-<generation>.heap}, and a CRC32C of the record and its blob. The first
+ * record of each satellite maps its id to its name, whose bytes are the blob; every later record is a reading,
+ * whose blob holds the message fragments in the {@link MessageFragmentsConverter} format. Persisting a reading
+ * is therefore a sequential append to both mappings, with no SQL involved.
+ * <p>
+ * On startup the journal is replayed up to the first record that is empty, torn or fails its checksum, and
+ * the rest of the file is cleared so that stale records are never replayed later. Once the journal holds more
+ * than {@code compactThreshold} records, and at least twice as many as are live, it is compacted: the latest
+ * reading of each satellite is written to the next generation, which replaces the current one with an atomic
+ * rename of its journal file.
+ * <p>
+ * Durability depends on {@code syncInterval}: with zero, every append is forced to the storage before
+ * returning; with a positive interval, appends are forced together in the background at most that often
+ * (group fsync); with a negative interval, the operating system decides when to write the pages back.
+ */
+public class JournalSplitStatePersister implements SplitStatePersisterInterface, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalSplitStatePersister.class);
+
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 32;
+
+    private static final int MAGIC = 0x51534A4C;
+    private static final int VERSION = 1;
+    private static final byte NAME = 1;
+    private static final byte READING = 2;
+    private static final int INITIAL_RECORDS = 1024;
+    private static final int INITIAL_HEAP_SIZE = 64 * 1024;
+    private static final Pattern JOURNAL_FILE = Pattern.compile("split-(\\d+)\\.journal");
+
+    private final Path directory;
+    private final int compactThreshold;
+    private final boolean syncEachWrite;
+    private final ScheduledExecutorService syncExecutor;
+    private final CRC32C checksum = new CRC32C();
+
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final Map<String, SatelliteReading> latest = new LinkedHashMap<>();
+
+    private long generation;
+    private FileChannel journalChannel;
+    private FileChannel heapChannel;
+    private MappedByteBuffer journal;
+    private MappedByteBuffer heap;
+    private int recordCount;
+    private int heapPosition;
+    private boolean dirty;
+    private boolean closed;
+
+    /**
+     * Opens the journal stored in a directory, creating it if it does not exist, and replays it.
+     *
+     * @param directory Directory holding the journal files.
+     * @param compactThreshold Number of records above which the journal is compacted.
+     * @param syncInterval Zero to force every append, a positive interval to force appends together in the
+     *                     background, or a negative interval to never force them explicitly.
+     * @param threadFactory Factory of the background thread used when {@code syncInterval} is positive.
+     */
+    public JournalSplitStatePersister(Path directory, int compactThreshold, Duration syncInterval,
+                                      ThreadFactory threadFactory) {
+        if (compactThreshold < 1) {
+            throw new IllegalArgumentException("The journal compaction threshold must be positive.");
+        }
+        this.directory = directory;
+        this.compactThreshold = compactThreshold;
+        this.syncEachWrite = syncInterval.isZero();
+
+        try {
+            open();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open the split journal in " + directory, ex);
+        }
+
+        if (!syncInterval.isZero() && !syncInterval.isNegative()) {
+            syncExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+            long millis = Math.max(1, syncInterval.toMillis());
+            syncExecutor.scheduleWithFixedDelay(this::syncQuietly, millis, millis, TimeUnit.MILLISECONDS);
+        } else {
+            syncExecutor = null;
+        }
+    }
+
+    @Override
+    public synchronized void persist(SatelliteReading reading) {
+        if (closed) {
+            throw new IllegalStateException("The split journal is closed.");
+        }
+
+        try {
+            Integer id = ids.get(reading.getName());
+            if (id == null) {
+                id = names.size();
+                append(NAME, id, 0.0, reading.getName().getBytes(StandardCharsets.UTF_8));
+                names.add(reading.getName());
+                ids.put(reading.getName(), id);
+            }
+            append(READING, id, reading.getDistance(), MessageFragmentsConverter.encode(reading.getMessage()));
+            latest.put(reading.getName(), reading);
+
+            if (syncEachWrite) {
+                force();
+            } else {
+                dirty = true;
+            }
+
+            if (recordCount > compactThreshold && recordCount >= 2 * (names.size() + latest.size())) {
+                compact();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to append to the split journal", ex);
+        }
+    }
+
+    @Override
+    public synchronized List<SatelliteReading> load() {
+        return List.copyOf(latest.values());
+    }
+
+    /**
+     * Forces every append made so far to the storage.
+     */
+    public synchronized void sync() {
+        if (dirty && !closed) {
+            force();
+            dirty = false;
+        }
+    }
+
+    /**
+     * Rewrites the journal with only the latest reading of each satellite.
+     *
+     * @throws IOException if the new generation could not be written.
+     */
+    public synchronized void compact() throws IOException {
+        long next = generation + 1;
+        writeGeneration(next);
+
+        long previous = generation;
+        unmap();
+        generation = next;
+        map();
+        replay();
+        Files.deleteIfExists(journalPath(previous));
+        Files.deleteIfExists(heapPath(previous));
+        log.debug("Compacted the split journal to generation {} with {} records", next, recordCount);
+    }
+
+    /**
+     * Gets the number of records in the current generation of the journal.
+     *
+     * @return The number of records.
+     */
+    public synchronized int size() {
+        return recordCount;
+    }
+
+    /**
+     * Stops the background sync, forces every pending append and releases the journal files.
+     *
+     * @throws InterruptedException if interrupted while waiting for the background sync to stop.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        if (syncExecutor != null) {
+            syncExecutor.shutdown();
+            syncExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        }
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            sync();
+            closed = true;
+            try {
+                unmap();
+            } catch (IOException ex) {
+                log.warn("Failed to close the split journal", ex);
+            }
+        }
+    }
+
+    /**
+     * Opens the latest generation of the journal, discarding older generations and compactions that did not
+     * finish, or creates the first generation if there is none.
+     */
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+
+        long latestGeneration = -1;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Matcher matcher = JOURNAL_FILE.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    latestGeneration = Math.max(latestGeneration, Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+
+        if (latestGeneration < 0) {
+            latestGeneration = 0;
+            writeGeneration(latestGeneration);
+        }
+        generation = latestGeneration;
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.startsWith("split-") && !file.equals(journalPath(generation))
+                        && !file.equals(heapPath(generation))) {
+                    Files.delete(file);
+                }
+            }
+        }
+
+        map();
+        replay();
+    }
+
+    /**
+     * Writes a complete generation holding the current state. The journal file is written under a temporary
+     * name and renamed only once both files are on the storage, so a generation either exists completely or
+     * not at all.
+     */
+    private void writeGeneration(long target) throws IOException {
+        ByteArrayOutputStream heapBytes = new ByteArrayOutputStream();
+        ByteBuffer records = ByteBuffer.allocate(HEADER_SIZE + RECORD_SIZE * (names.size() + latest.size()));
+        writeHeader(records, target);
+
+        int position = HEADER_SIZE;
+        for (int id = 0; id < names.size(); id++) {
+            String name = names.get(id);
+            byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+            writeRecord(records, position, NAME, id, 0.0, heapBytes.size(), nameBytes);
+            heapBytes.write(nameBytes, 0, nameBytes.length);
+            position += RECORD_SIZE;
+
+            SatelliteReading reading = latest.get(name);
+            if (reading != null) {
+                byte[] message = MessageFragmentsConverter.encode(reading.getMessage());
+                writeRecord(records, position, READING, id, reading.getDistance(), heapBytes.size(), message);
+                if (message != null) {
+                    heapBytes.write(message, 0, message.length);
+                }
+                position += RECORD_SIZE;
+            }
+        }
+
+        Path temporary = directory.resolve("split-" + target + ".journal.tmp");
+        writeFile(heapPath(target), ByteBuffer.wrap(heapBytes.toByteArray()));
+        writeFile(temporary, records.clear());
+        Files.move(temporary, journalPath(target), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void writeFile(Path path, ByteBuffer content) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+            channel.force(true);
+        }
+    }
+
+    private void map() throws IOException {
+        journalChannel = FileChannel.open(journalPath(generation), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        heapChannel = FileChannel.open(heapPath(generation), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        journal = journalChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                Math.max(journalChannel.size(), HEADER_SIZE + (long) RECORD_SIZE * INITIAL_RECORDS));
+        heap = heapChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                Math.max(heapChannel.size(), INITIAL_HEAP_SIZE));
+    }
+
+    private void unmap() throws IOException {
+        journalChannel.close();
+        heapChannel.close();
+        journal = null;
+        heap = null;
+    }
+
+    /**
+     * Rebuilds the state from the mapped journal and clears everything after the last valid record.
+     */
+    private void replay() {
+        if (journal.getInt(0) != MAGIC || journal.getInt(4) != VERSION || journal.getLong(8) != generation) {
+            throw new IllegalStateException("Corrupt split journal header in " + journalPath(generation));
+        }
+
+        names.clear();
+        ids.clear();
+        latest.clear();
+        recordCount = 0;
+        heapPosition = 0;
+
+        int position = HEADER_SIZE;
+        while (position + RECORD_SIZE <= journal.capacity()) {
+            byte type = journal.get(position);
+            int id = journal.getInt(position + 4);
+            double distance = journal.getDouble(position + 8);
+            long offset = journal.getLong(position + 16);
+            int length = journal.getInt(position + 24);
+            int end = (int) Math.min(Integer.MAX_VALUE, offset + Math.max(length, 0));
+            if ((type != NAME && type != READING) || offset < 0 || length < -1 || end > heap.capacity()) {
+                break;
+            }
+
+            byte[] blob = null;
+            if (length >= 0) {
+                blob = new byte[length];
+                heap.get((int) offset, blob);
+            }
+            if (journal.getInt(position + 28) != checksum(journal, position, blob)) {
+                break;
+            }
+
+            if (type == NAME) {
+                if (id != names.size() || blob == null) {
+                    break;
+                }
+                String name = new String(blob, StandardCharsets.UTF_8);
+                names.add(name);
+                ids.put(name, id);
+            } else {
+                if (id < 0 || id >= names.size()) {
+                    break;
+                }
+                String name = names.get(id);
+                latest.put(name, new SatelliteReading(name, distance, MessageFragmentsConverter.decode(blob)));
+            }
+
+            heapPosition = Math.max(heapPosition, end);
+            recordCount++;
+            position += RECORD_SIZE;
+        }
+
+        if (position < journal.capacity()) {
+            if (position + RECORD_SIZE <= journal.capacity() && journal.get(position) != 0) {
+                log.warn("Discarding the torn tail of the split journal after {} records", recordCount);
+            }
+            for (int i = position; i < journal.capacity(); i++) {
+                journal.put(i, (byte) 0);
+            }
+        }
+    }
+
+    /**
+     * Appends a record and its blob, growing the mappings when they are full.
+     */
+    private void append(byte type, int id, double distance, byte[] blob) throws IOException {
+        int length = blob != null ? blob.length : 0;
+        int position = HEADER_SIZE + recordCount * RECORD_SIZE;
+
+        if (position + RECORD_SIZE > journal.capacity()) {
+            journal.force();
+            journal = journalChannel.map(FileChannel.MapMode.READ_WRITE, 0, grow(journal.capacity(), RECORD_SIZE));
+        }
+        if (heapPosition + length > heap.capacity()) {
+            heap.force();
+            heap = heapChannel.map(FileChannel.MapMode.READ_WRITE, 0, grow(heap.capacity(), length));
+        }
+
+        if (blob != null) {
+            heap.put(heapPosition, blob);
+        }
+        writeRecord(journal, position, type, id, distance, heapPosition, blob);
+        heapPosition += length;
+        recordCount++;
+    }
+
+    private static long grow(int capacity, int needed) {
+        long grown = Math.max(2L * capacity, (long) capacity + needed);
+        if (grown > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The split journal is full; compact it with a lower threshold.");
+        }
+        return grown;
+    }
+
+    private static void writeHeader(ByteBuffer buffer, long generation) {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putLong(8, generation);
+    }
+
+    private void writeRecord(ByteBuffer buffer, int position, byte type, int id, double distance, long offset,
+                             byte[] blob) {
+        buffer.put(position, type);
+        buffer.put(position + 1, (byte) 0);
+        buffer.putShort(position + 2, (short) 0);
+        buffer.putInt(position + 4, id);
+        buffer.putDouble(position + 8, distance);
+        buffer.putLong(position + 16, offset);
+        buffer.putInt(position + 24, blob != null ? blob.length : -1);
+        buffer.putInt(position + 28, checksum(buffer, position, blob));
+    }
+
+    /**
+     * Computes the checksum of a record, covering its first 28 bytes and its blob.
+     */
+    private int checksum(ByteBuffer buffer, int position, byte[] blob) {
+        checksum.reset();
+        checksum.update(buffer.slice(position, RECORD_SIZE - 4));
+        if (blob != null) {
+            checksum.update(blob);
+        }
+        return (int) checksum.getValue();
+    }
+
+    private void force() {
+        heap.force();
+        journal.force();
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException ex) {
+            log.error("Failed to sync the split journal", ex);
+        }
+    }
+
+    private Path journalPath(long target) {
+        return directory.resolve("split-" + target + ".journal");
+    }
+
+    private Path heapPath(long target) {
+        return directory.resolve("split-" + target + ".heap");
+    }
+}
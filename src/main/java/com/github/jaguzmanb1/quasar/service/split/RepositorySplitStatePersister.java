@@ -0,0 +1,41 @@
+package com.github.jaguzmanb1.quasar.service.split;
+
+import com.github.jaguzmanb1.quasar.service.registry.SatelliteRegistry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementation of {@link SplitStatePersisterInterface} that stores readings on the satellite rows
+ * through the satellite registry, which writes through to the database. Only the rows of the split-mode
+ * satellites that hold a complete reading are loaded back.
+ */
+public class RepositorySplitStatePersister implements SplitStatePersisterInterface {
+
+    private final SatelliteRegistry satelliteRegistry;
+    private final Set<String> splitSatellites;
+
+    /**
+     * Constructor to inject dependencies.
+     * @param satelliteRegistry Registry used to read and write satellite rows.
+     * @param splitSatellites Names of the satellites used in split mode.
+     */
+    public RepositorySplitStatePersister(SatelliteRegistry satelliteRegistry, Collection<String> splitSatellites) {
+        this.satelliteRegistry = satelliteRegistry;
+        this.splitSatellites = Set.copyOf(splitSatellites);
+    }
+
+    @Override
+    public void persist(SatelliteReading reading) {
+        satelliteRegistry.updateReading(reading.getName(), reading.getDistance(), reading.getMessage());
+    }
+
+    @Override
+    public List<SatelliteReading> load() {
+        return satelliteRegistry.findAllByNameIn(splitSatellites).stream()
+                .map(SatelliteReading::from)
+                .filter(SatelliteReading::isComplete)
+                .toList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.jaguzmanb1.quasar.service.split;
+
+import com.github.jaguzmanb1.quasar.entity.Satellite;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable distance and message fragments reported by a single satellite in split mode.
+ */
+public final class SatelliteReading {
+
+    private final String name;
+    private final double distance;
+    private final List<String> message;
+
+    /**
+     * Creates a new reading.
+     *
+     * @param name The name of the satellite.
+     * @param distance The distance reported by the satellite.
+     * @param message The message fragments received by the satellite; a defensive copy is kept.
+     */
+    public SatelliteReading(String name, double distance, List<String> message) {
+        this.name = name;
+        this.distance = distance;
+        this.message = message != null ? Collections.unmodifiableList(new ArrayList<>(message)) : null;
+    }
+
+    /**
+     * Creates a reading from the distance and message stored on a satellite row.
+     *
+     * @param satellite The satellite row.
+     * @return The reading, with a distance of 0 if none was stored.
+     */
+    public static SatelliteReading from(Satellite satellite) {
+        double distance = satellite.getDistance() != null ? satellite.getDistance() : 0.0;
+        return new SatelliteReading(satellite.getName(), distance, satellite.getReceivedMessage());
+    }
+
+    /**
+     * Indicates whether the reading holds a positive distance and at least one message fragment, that is,
+     * whether it can take part in a split-mode solve. Rows seeded without a reading are not complete.
+     *
+     * @return {@code true} if the reading is complete.
+     */
+    public boolean isComplete() {
+        return distance > 0 && message != null && !message.isEmpty();
+    }
+
+    /**
+     * Gets the name of the satellite.
+     *
+     * @return The name of the satellite.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the distance reported by the satellite.
+     *
+     * @return The distance value.
+     */
+    public double getDistance() {
+        return distance;
+    }
+
+    /**
+     * Gets the message fragments received by the satellite.
+     *
+     * @return An unmodifiable list of fragments, or null if no message was received.
+     */
+    public List<String> getMessage() {
+        return message;
+    }
+}
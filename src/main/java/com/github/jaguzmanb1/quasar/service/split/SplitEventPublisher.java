@@ -0,0 +1,130 @@
+package com.github.jaguzmanb1.quasar.service.split;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Pushes split-mode solutions to clients subscribed over Server-Sent Events.
+ * <p>
+ * Subscribers are grouped by channel: the global split state uses {@link #GLOBAL_CHANNEL} and each session
+ * uses its own id. Every solution is sent as a {@code solution} event, or as an {@code error} event when the
+ * readings could not be solved, and the event id is the version of the state it was computed from.
+ */
+public class SplitEventPublisher {
+
+    /**
+     * Channel of the global split-mode state.
+     */
+    public static final String GLOBAL_CHANNEL = "";
+
+    private static final Logger log = LoggerFactory.getLogger(SplitEventPublisher.class);
+
+    private final Supplier<SseEmitter> emitterFactory;
+    private final Map<String, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a publisher.
+     *
+     * @param timeoutMillis Time after which an idle subscription is closed, in milliseconds.
+     */
+    public SplitEventPublisher(long timeoutMillis) {
+        this(() -> new SseEmitter(timeoutMillis));
+    }
+
+    /**
+     * Creates a publisher using the given emitter factory.
+     *
+     * @param emitterFactory Factory of the emitter created for each subscription.
+     */
+    public SplitEventPublisher(Supplier<SseEmitter> emitterFactory) {
+        this.emitterFactory = emitterFactory;
+    }
+
+    /**
+     * Subscribes to the solutions of a channel.
+     *
+     * @param channel The channel to subscribe to.
+     * @param current The latest solution of the channel, sent right away, or null if there is none.
+     * @return The emitter to be returned to the client.
+     */
+    public SseEmitter subscribe(String channel, SplitSolution current) {
+        SseEmitter emitter = emitterFactory.get();
+        subscribers.compute(channel, (key, emitters) -> {
+            List<SseEmitter> updated = emitters != null ? emitters : new CopyOnWriteArrayList<>();
+            updated.add(emitter);
+            return updated;
+        });
+
+        Runnable remove = () -> unsubscribe(channel, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(ex -> remove.run());
+
+        if (current != null && !send(emitter, current)) {
+            remove.run();
+        }
+        return emitter;
+    }
+
+    /**
+     * Sends a solution to every subscriber of a channel. Subscribers that can no longer be reached are dropped.
+     *
+     * @param channel The channel the solution belongs to.
+     * @param solution The solution to send.
+     */
+    public void publish(String channel, SplitSolution solution) {
+        List<SseEmitter> emitters = subscribers.get(channel);
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            if (!send(emitter, solution)) {
+                unsubscribe(channel, emitter);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of open subscriptions of a channel.
+     *
+     * @param channel The channel.
+     * @return The number of subscribers.
+     */
+    public int subscriberCount(String channel) {
+        List<SseEmitter> emitters = subscribers.get(channel);
+        return emitters != null ? emitters.size() : 0;
+    }
+
+    private boolean send(SseEmitter emitter, SplitSolution solution) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event().id(Long.toString(solution.getVersion()));
+        if (solution.isSolved()) {
+            event.name("solution").data(solution.getResponse());
+        } else {
+            event.name("error").data(Map.of("error", String.valueOf(solution.getErrorMessage())));
+        }
+
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("Dropping split-mode subscriber: {}", ex.getMessage());
+            emitter.completeWithError(ex);
+            return false;
+        }
+    }
+
+    private void unsubscribe(String channel, SseEmitter emitter) {
+        subscribers.computeIfPresent(channel, (key, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
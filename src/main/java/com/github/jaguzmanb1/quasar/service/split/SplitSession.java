@@ -0,0 +1,73 @@
+package com.github.jaguzmanb1.quasar.service.split;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Split-mode state of a single ship or transmission, identified by a session id.
+ * It holds one reading per satellite and the solution of the latest complete state, so its memory
+ * footprint is constant regardless of how many fragments are received.
+ */
+public final class SplitSession {
+
+    private final String id;
+    private final AtomicReference<SplitSnapshot> state = new AtomicReference<>(SplitSnapshot.EMPTY);
+    private final AtomicReference<SplitSolution> solution = new AtomicReference<>();
+
+    /**
+     * Creates an empty session.
+     *
+     * @param id The session id.
+     */
+    SplitSession(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the session id.
+     *
+     * @return The session id.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the current snapshot of the session state.
+     *
+     * @return The current snapshot.
+     */
+    public SplitSnapshot snapshot() {
+        return state.get();
+    }
+
+    /**
+     * Replaces the reading of a satellite.
+     *
+     * @param reading The new reading.
+     * @return The snapshot that includes the new reading.
+     */
+    public SplitSnapshot update(SatelliteReading reading) {
+        return state.updateAndGet(current -> current.with(reading));
+    }
+
+    /**
+     * Gets the latest solution if it was computed from the current state and satellite positions.
+     *
+     * @param positionsVersion The current version of the satellite positions.
+     * @return The solution, or null if the state or the positions changed since it was computed.
+     */
+    public SplitSolution currentSolution(long positionsVersion) {
+        SplitSolution current = solution.get();
+        return current != null && current.isCurrent(state.get().getVersion(), positionsVersion) ? current : null;
+    }
+
+    /**
+     * Stores a solution unless a solution of a newer state was already stored.
+     *
+     * @param newSolution The solution to store.
+     */
+    public void offerSolution(SplitSolution newSolution) {
+        solution.accumulateAndGet(newSolution,
+                (current, offered) -> offered.isNewerThan(current) ? offered : current);
+    }
+}
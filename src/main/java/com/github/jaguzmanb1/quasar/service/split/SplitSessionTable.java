@@ -0,0 +1,116 @@
+package com.github.jaguzmanb1.quasar.service.split;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, in-memory table of split-mode sessions with time-to-live eviction.
+ * <p>
+ * Sessions are kept in access order, so the least recently used session is always at the head of the table.
+ * Expired sessions are evicted opportunistically from the head on every access, which costs O(1) amortized,
+ * and the least recently used session is evicted when the table is full.
+ */
+public class SplitSessionTable {
+
+    private final int maxSessions;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<String, Entry> sessions = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Creates a table using the system clock.
+     * @param maxSessions Maximum number of sessions kept at the same time.
+     * @param ttl Time a session is kept after its last access.
+     */
+    public SplitSessionTable(int maxSessions, Duration ttl) {
+        this(maxSessions, ttl, System::nanoTime);
+    }
+
+    /**
+     * Creates a table using the given clock.
+     * @param maxSessions Maximum number of sessions kept at the same time.
+     * @param ttl Time a session is kept after its last access.
+     * @param clock Source of monotonic time in nanoseconds.
+     */
+    public SplitSessionTable(int maxSessions, Duration ttl, LongSupplier clock) {
+        this.maxSessions = maxSessions;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Gets a session, creating it if it does not exist or has expired.
+     * @param id The session id.
+     * @return The session.
+     */
+    public synchronized SplitSession getOrCreate(String id) {
+        long now = clock.getAsLong();
+        evictExpired(now);
+
+        Entry entry = sessions.get(id);
+        if (entry == null) {
+            if (sessions.size() >= maxSessions) {
+                Iterator<Map.Entry<String, Entry>> eldest = sessions.entrySet().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+            entry = new Entry(new SplitSession(id));
+            sessions.put(id, entry);
+        }
+        entry.lastAccess = now;
+        return entry.session;
+    }
+
+    /**
+     * Gets a session if it exists and has not expired.
+     * @param id The session id.
+     * @return The session, or empty if there is none.
+     */
+    public synchronized Optional<SplitSession> find(String id) {
+        long now = clock.getAsLong();
+        evictExpired(now);
+
+        Entry entry = sessions.get(id);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        entry.lastAccess = now;
+        return Optional.of(entry.session);
+    }
+
+    /**
+     * Gets the number of live sessions.
+     * @return The number of sessions.
+     */
+    public synchronized int size() {
+        evictExpired(clock.getAsLong());
+        return sessions.size();
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Entry> iterator = sessions.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (now - entry.lastAccess < ttlNanos) {
+                break;
+            }
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Session together with the time of its last access.
+     */
+    private static final class Entry {
+        private final SplitSession session;
+        private long lastAccess;
+
+        private Entry(SplitSession session) {
+            this.session = session;
+        }
+    }
+}
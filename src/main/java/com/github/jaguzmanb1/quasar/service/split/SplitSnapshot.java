@@ -0,0 +1,78 @@
+package com.github.jaguzmanb1.quasar.service.split;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable, versioned view of the split-mode state.
+ * Every change produces a new snapshot with a higher version, so readers always observe the readings of
+ * all satellites as they were at a single point in time.
+ */
+public final class SplitSnapshot {
+
+    static final SplitSnapshot EMPTY = new SplitSnapshot(Map.of(), 0);
+
+    private final Map<String, SatelliteReading> readings;
+    private final long version;
+
+    private SplitSnapshot(Map<String, SatelliteReading> readings, long version) {
+        this.readings = readings;
+        this.version = version;
+    }
+
+    /**
+     * Gets the reading of a satellite.
+     *
+     * @param name The name of the satellite.
+     * @return The reading, or null if the satellite has not reported yet.
+     */
+    public SatelliteReading get(String name) {
+        return readings.get(name);
+    }
+
+    /**
+     * Indicates whether every given satellite has a reading in this snapshot.
+     *
+     * @param names The names of the satellites.
+     * @return {@code true} if all satellites have a reading.
+     */
+    public boolean containsAll(Collection<String> names) {
+        return readings.keySet().containsAll(names);
+    }
+
+    /**
+     * Gets the version of this snapshot. Versions increase with every change.
+     *
+     * @return The version number.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Creates a new snapshot replacing the reading of one satellite.
+     */
+    SplitSnapshot with(SatelliteReading reading) {
+        Map<String, SatelliteReading> updated = new HashMap<>(readings);
+        updated.put(reading.getName(), reading);
+        return new SplitSnapshot(Map.copyOf(updated), version + 1);
+    }
+
+    /**
+     * Creates a new snapshot adding the readings of satellites that have no reading yet.
+     * Returns this snapshot if nothing was added.
+     */
+    SplitSnapshot withMissing(Collection<SatelliteReading> candidates) {
+        Map<String, SatelliteReading> updated = null;
+        for (SatelliteReading reading : candidates) {
+            if (!readings.containsKey(reading.getName())) {
+                if (updated == null) {
+                    updated = new HashMap<>(readings);
+                }
+                updated.putIfAbsent(reading.getName(), reading);
+            }
+        }
+        return updated == null ? this : new SplitSnapshot(Map.copyOf(updated), version + 1);
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.jaguzmanb1.quasar.service.split;
+
+import com.github.jaguzmanb1.quasar.dto.TopSecretResponseDTO;
+
+import java.util.function.Supplier;
+
+/**
+ * Outcome of solving a given version of the split-mode state.
+ * A solution either holds the response or the exception that prevented solving it, so that both
+ * can be reused until the state or the satellite positions change.
+ */
+public final class SplitSolution {
+
+    private final long version;
+    private final long positionsVersion;
+    private final TopSecretResponseDTO response;
+    private final RuntimeException error;
+
+    private SplitSolution(long version, long positionsVersion, TopSecretResponseDTO response, RuntimeException error) {
+        this.version = version;
+        this.positionsVersion = positionsVersion;
+        this.response = response;
+        this.error = error;
+    }
+
+    /**
+     * Solves a version of the split-mode state, capturing the response or the exception thrown.
+     *
+     * The positions version must be read before the satellites are looked up, so that a move racing with
+     * the solver leaves the solution tagged as stale rather than as current.
+     *
+     * @param version The version of the state being solved.
+     * @param positionsVersion The version of the satellite positions used by the solver.
+     * @param solver The function computing the response.
+     * @return The solution.
+     */
+    public static SplitSolution solve(long version, long positionsVersion, Supplier<TopSecretResponseDTO> solver) {
+        try {
+            return new SplitSolution(version, positionsVersion, solver.get(), null);
+        } catch (RuntimeException ex) {
+            return new SplitSolution(version, positionsVersion, null, ex);
+        }
+    }
+
+    /**
+     * Gets the version of the state this solution was computed from.
+     *
+     * @return The version number.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the version of the satellite positions this solution was computed from.
+     *
+     * @return The positions version.
+     */
+    public long getPositionsVersion() {
+        return positionsVersion;
+    }
+
+    /**
+     * Indicates whether this solution was computed from the given state and satellite positions.
+     *
+     * @param version The current version of the state.
+     * @param positionsVersion The current version of the satellite positions.
+     * @return {@code true} if both versions match.
+     */
+    public boolean isCurrent(long version, long positionsVersion) {
+        return this.version == version && this.positionsVersion == positionsVersion;
+    }
+
+    /**
+     * Indicates whether this solution was computed from newer data than another one, comparing the state
+     * version first and the positions version second.
+     *
+     * @param other The other solution, may be null.
+     * @return {@code true} if this solution should replace the other one.
+     */
+    public boolean isNewerThan(SplitSolution other) {
+        if (other == null || version != other.version) {
+            return other == null || version > other.version;
+        }
+        return positionsVersion > other.positionsVersion;
+    }
+
+    /**
+     * Indicates whether the state could be solved.
+     *
+     * @return {@code true} if the solution holds a response.
+     */
+    public boolean isSolved() {
+        return error == null;
+    }
+
+    /**
+     * Gets the response, rethrowing the exception captured while solving if there was one.
+     *
+     * @return The response.
+     */
+    public TopSecretResponseDTO getResponse() {
+        if (error != null) {
+            throw error;
+        }
+        return response;
+    }
+
+    /**
+     * Gets the message of the exception captured while solving.
+     *
+     * @return The error message, or null if the state was solved.
+     */
+    public String getErrorMessage() {
+        return error != null ? error.getMessage() : null;
+    }
+}
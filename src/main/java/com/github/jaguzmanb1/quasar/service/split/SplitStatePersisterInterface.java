@@ -0,0 +1,24 @@
+package com.github.jaguzmanb1.quasar.service.split;
+
+import java.util.List;
+
+/**
+ * Interface for the durable storage behind the in-memory split-mode state.
+ * Implementations of this interface provide different strategies to persist and restore satellite readings.
+ */
+public interface SplitStatePersisterInterface {
+
+    /**
+     * Persists the latest reading of a satellite, replacing any previous one.
+     *
+     * @param reading The reading to persist.
+     */
+    void persist(SatelliteReading reading);
+
+    /**
+     * Loads the latest persisted reading of every satellite.
+     *
+     * @return The persisted readings.
+     */
+    List<SatelliteReading> load();
+}
@@ -0,0 +1,125 @@
+package com.github.jaguzmanb1.quasar.service.split;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Concurrency-safe, in-memory store of the split-mode state.
+ * <p>
+ * The readings of all satellites live in a single immutable {@link SplitSnapshot} that is swapped atomically
+ * on every update, so readers get a consistent view of every satellite without taking locks and never block
+ * writers. Updates are persisted asynchronously: the name of each updated satellite is queued and the
+ * persistence executor writes whatever reading the current snapshot holds for it, so intermediate readings
+ * that were overwritten before being written are skipped and the storage always ends up with the reading
+ * that won the last update. The executor must run tasks sequentially so that readings reach the storage in
+ * order.
+ */
+public class SplitStateStore implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(SplitStateStore.class);
+
+    private final SplitStatePersisterInterface persister;
+    private final Executor persistenceExecutor;
+    private final AtomicReference<SplitSnapshot> state = new AtomicReference<>(SplitSnapshot.EMPTY);
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor to inject dependencies.
+     * @param persister Durable storage behind the store.
+     * @param persistenceExecutor Sequential executor used to persist readings in the background.
+     */
+    public SplitStateStore(SplitStatePersisterInterface persister, Executor persistenceExecutor) {
+        this.persister = persister;
+        this.persistenceExecutor = persistenceExecutor;
+    }
+
+    /**
+     * Loads the persisted readings into the store. Satellites that already have a reading are left untouched.
+     */
+    public void initialize() {
+        load(persister.load());
+    }
+
+    /**
+     * Gets the current snapshot of the split-mode state.
+     * @return The current snapshot.
+     */
+    public SplitSnapshot snapshot() {
+        return state.get();
+    }
+
+    /**
+     * Adds readings for satellites that do not have one yet, without persisting them.
+     * Used to hydrate the store from the database.
+     * @param readings The candidate readings.
+     * @return The snapshot after loading.
+     */
+    public SplitSnapshot load(Collection<SatelliteReading> readings) {
+        return state.updateAndGet(current -> current.withMissing(readings));
+    }
+
+    /**
+     * Replaces the reading of a satellite and schedules it to be persisted.
+     * @param name The name of the satellite.
+     * @param distance The new distance.
+     * @param message The new message fragments.
+     * @return The snapshot that includes the new reading.
+     */
+    public SplitSnapshot update(String name, double distance, List<String> message) {
+        SatelliteReading reading = new SatelliteReading(name, distance, message);
+        SplitSnapshot snapshot = state.updateAndGet(current -> current.with(reading));
+
+        if (pending.add(name)) {
+            persistenceExecutor.execute(() -> persistPending(name));
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Persists every reading that is still waiting to be written.
+     */
+    public void flush() {
+        for (String name : pending) {
+            persistPending(name);
+        }
+    }
+
+    /**
+     * Stops the persistence executor if it is an {@link ExecutorService} and writes any pending readings.
+     * @throws InterruptedException if interrupted while waiting for the executor to finish.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        if (persistenceExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+            executorService.awaitTermination(30, TimeUnit.SECONDS);
+        }
+        flush();
+    }
+
+    /**
+     * Persists the current reading of a satellite. The name is taken off the queue before the snapshot is
+     * read, so an update that lands after the read queues the satellite again and is written too.
+     */
+    private void persistPending(String name) {
+        if (pending.remove(name)) {
+            SatelliteReading reading = state.get().get(name);
+            try {
+                persister.persist(reading);
+            } catch (RuntimeException ex) {
+                // The reading stays available in memory and is written again on the next update
+                log.error("Failed to persist split reading of satellite {}", name, ex);
+            }
+        }
+    }
+}
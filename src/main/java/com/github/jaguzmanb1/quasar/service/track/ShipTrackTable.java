@@ -0,0 +1,373 @@
+package com.github.jaguzmanb1.quasar.service.track;
+
+import com.github.jaguzmanb1.quasar.exception.InvalidIntersectionException;
+import com.github.jaguzmanb1.quasar.service.location.LocationEstimate;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, in-memory table of ship tracks, each updated with an extended Kalman filter.
+ * <p>
+ * The state of a track is its position and velocity under a constant-velocity model, with white-noise
+ * acceleration as process noise. Every update first predicts the state to the current time and then fuses
+ * the received ranges one at a time, each as a scalar measurement, so an update costs O(1) per range and
+ * never solves the fix from scratch. Ranges whose innovation is larger than the gate are rejected instead of
+ * failing the update; if every range of an update is rejected the track is re-initialized from a full solve.
+ * <p>
+ * States live in a single primitive array with one fixed-size block per ship (position, velocity and the
+ * 4x4 covariance), indexed through an access-ordered map, so the least recently updated ship is always at
+ * the head. Tracks expire a fixed time after their last update and the least recently updated track is
+ * evicted when the table is full, as in the split session table.
+ */
+public class ShipTrackTable implements MeterBinder {
+
+    private static final int STATE = 4;
+    private static final int STRIDE = STATE + STATE * STATE;
+
+    private final int maxShips;
+    private final long ttlNanos;
+    private final double processNoise;
+    private final double measurementVariance;
+    private final double gateSquared;
+    private final double initialVelocityVariance;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<String, Integer> slots = new LinkedHashMap<>(16, 0.75f, true);
+    private double[] states;
+    private long[] updatedAt;
+    private int[] freeSlots;
+    private int freeCount;
+    private int usedSlots;
+    private final double[] gain = new double[STATE];
+
+    private final LongAdder acceptedMeasurements = new LongAdder();
+    private final LongAdder rejectedMeasurements = new LongAdder();
+    private final LongAdder reinitializations = new LongAdder();
+
+    /**
+     * Creates a table using the system clock.
+     * @param maxShips Maximum number of ships tracked at the same time.
+     * @param ttl Time a track is kept after its last update.
+     * @param processNoise Spectral density of the random acceleration of the ships, in units^2/s^3.
+     * @param measurementSigma Standard deviation of a range measurement, in units.
+     * @param gateSigmas Largest innovation accepted, in standard deviations.
+     * @param initialVelocitySigma Standard deviation of the velocity of a new track, in units per second.
+     */
+    public ShipTrackTable(int maxShips, Duration ttl, double processNoise, double measurementSigma,
+                          double gateSigmas, double initialVelocitySigma) {
+        this(maxShips, ttl, processNoise, measurementSigma, gateSigmas, initialVelocitySigma, System::nanoTime);
+    }
+
+    /**
+     * Creates a table using the given clock.
+     * @param maxShips Maximum number of ships tracked at the same time.
+     * @param ttl Time a track is kept after its last update.
+     * @param processNoise Spectral density of the random acceleration of the ships, in units^2/s^3.
+     * @param measurementSigma Standard deviation of a range measurement, in units.
+     * @param gateSigmas Largest innovation accepted, in standard deviations.
+     * @param initialVelocitySigma Standard deviation of the velocity of a new track, in units per second.
+     * @param clock Source of monotonic time in nanoseconds.
+     */
+    public ShipTrackTable(int maxShips, Duration ttl, double processNoise, double measurementSigma,
+                          double gateSigmas, double initialVelocitySigma, LongSupplier clock) {
+        if (maxShips < 1) {
+            throw new IllegalArgumentException("At least one ship must be tracked.");
+        }
+        if (measurementSigma <= 0) {
+            throw new IllegalArgumentException("Measurement sigma must be positive.");
+        }
+        this.maxShips = maxShips;
+        this.ttlNanos = ttl.toNanos();
+        this.processNoise = processNoise;
+        this.measurementVariance = measurementSigma * measurementSigma;
+        this.gateSquared = gateSigmas * gateSigmas;
+        this.initialVelocityVariance = initialVelocitySigma * initialVelocitySigma;
+        this.clock = clock;
+
+        int capacity = Math.min(maxShips, 64);
+        this.states = new double[capacity * STRIDE];
+        this.updatedAt = new long[capacity];
+        this.freeSlots = new int[capacity];
+    }
+
+    /**
+     * Fuses the ranges received from a ship into its track, starting the track if there is none.
+     * The full solve needed to start or re-initialize a track runs outside the table lock, so it never holds
+     * up the updates of other ships.
+     * @param shipId The id of the ship.
+     * @param xs X coordinates of the satellites that measured the ranges.
+     * @param ys Y coordinates of the satellites that measured the ranges.
+     * @param distances Ranges from each satellite to the ship.
+     * @param count Number of ranges, starting at index 0.
+     * @param initialFix Full solve of the ranges, used to start or re-initialize the track.
+     * @return The updated track.
+     * @throws InvalidIntersectionException if the track has to be started and the ranges cannot be solved.
+     */
+    public TrackEstimate update(String shipId, double[] xs, double[] ys, double[] distances, int count,
+                                Supplier<LocationEstimate> initialFix) {
+        TrackEstimate tracked = fuseAll(shipId, xs, ys, distances, count);
+        if (tracked != null && tracked.getAccepted() > 0) {
+            return tracked;
+        }
+
+        LocationEstimate fix;
+        try {
+            fix = initialFix.get();
+        } catch (InvalidIntersectionException ex) {
+            if (tracked == null) {
+                throw ex;
+            }
+            // Keep the prediction until consistent ranges arrive.
+            rejectedMeasurements.add(count);
+            return tracked;
+        }
+        return start(shipId, xs, ys, distances, count, fix, tracked != null);
+    }
+
+    /**
+     * Forgets the track of a ship.
+     * @param shipId The id of the ship.
+     * @return {@code true} if the ship was tracked.
+     */
+    public synchronized boolean remove(String shipId) {
+        Integer slot = slots.remove(shipId);
+        if (slot == null) {
+            return false;
+        }
+        release(slot);
+        return true;
+    }
+
+    /**
+     * Gets the number of live tracks.
+     * @return The number of tracked ships.
+     */
+    public synchronized int size() {
+        evictExpired(clock.getAsLong());
+        return slots.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("quasar.track.measurements", acceptedMeasurements, LongAdder::sum)
+                .tag("result", "accepted")
+                .description("Ranges fused into ship tracks")
+                .register(registry);
+        FunctionCounter.builder("quasar.track.measurements", rejectedMeasurements, LongAdder::sum)
+                .tag("result", "rejected")
+                .description("Ranges rejected as inconsistent with the track")
+                .register(registry);
+        FunctionCounter.builder("quasar.track.reinitializations", reinitializations, LongAdder::sum)
+                .description("Tracks restarted from a full solve after every range was rejected")
+                .register(registry);
+        Gauge.builder("quasar.track.ships", this, ShipTrackTable::size)
+                .description("Number of ships being tracked")
+                .register(registry);
+    }
+
+    /**
+     * Predicts the track of a ship to the current time and fuses the ranges into it. The measurements are
+     * counted only if at least one range was accepted; otherwise the caller re-initializes the track.
+     * @return The updated track, or null if the ship is not tracked.
+     */
+    private synchronized TrackEstimate fuseAll(String shipId, double[] xs, double[] ys, double[] distances,
+                                               int count) {
+        long now = clock.getAsLong();
+        evictExpired(now);
+
+        Integer slot = slots.get(shipId);
+        if (slot == null) {
+            return null;
+        }
+
+        int base = slot * STRIDE;
+        predict(base, (now - updatedAt[slot]) / 1e9);
+        updatedAt[slot] = now;
+
+        int accepted = 0;
+        for (int i = 0; i < count; i++) {
+            if (fuse(base, xs[i], ys[i], distances[i])) {
+                accepted++;
+            }
+        }
+        if (accepted > 0) {
+            acceptedMeasurements.add(accepted);
+            rejectedMeasurements.add(count - accepted);
+        }
+        return estimate(base, accepted, count - accepted);
+    }
+
+    /**
+     * Starts or re-initializes the track of a ship at a solved position. If another update started the track
+     * while the fix was being solved, the ranges are fused into that track instead, and the fix is only used
+     * if every range is rejected.
+     */
+    private synchronized TrackEstimate start(String shipId, double[] xs, double[] ys, double[] distances, int count,
+                                             LocationEstimate fix, boolean reinitialize) {
+        if (!reinitialize && slots.containsKey(shipId)) {
+            TrackEstimate tracked = fuseAll(shipId, xs, ys, distances, count);
+            if (tracked.getAccepted() > 0) {
+                return tracked;
+            }
+            reinitialize = true;
+        }
+
+        long now = clock.getAsLong();
+        Integer slot = slots.get(shipId);
+        if (slot == null) {
+            slot = allocate();
+            slots.put(shipId, slot);
+        } else if (reinitialize) {
+            reinitializations.increment();
+        }
+        initialize(slot * STRIDE, fix);
+        updatedAt[slot] = now;
+        acceptedMeasurements.add(count);
+        return estimate(slot * STRIDE, count, 0);
+    }
+
+    /**
+     * Starts a track at a solved position, at rest, with the position as uncertain as the worse of the
+     * measurement noise and the residual of the solve.
+     */
+    private void initialize(int base, LocationEstimate fix) {
+        Arrays.fill(states, base, base + STRIDE, 0.0);
+        states[base] = fix.getX();
+        states[base + 1] = fix.getY();
+
+        double residual = Double.isNaN(fix.getResidual()) ? 0.0 : fix.getResidual();
+        double positionVariance = Math.max(measurementVariance, residual * residual);
+        int p = base + STATE;
+        states[p] = positionVariance;
+        states[p + 5] = positionVariance;
+        states[p + 10] = initialVelocityVariance;
+        states[p + 15] = initialVelocityVariance;
+    }
+
+    /**
+     * Moves the state {@code dt} seconds forward: {@code x += v dt} and {@code P = F P F^T + Q}.
+     * F only adds the velocity rows and columns to the position ones, so the product is done in place.
+     */
+    private void predict(int base, double dt) {
+        if (dt <= 0) {
+            return;
+        }
+        states[base] += states[base + 2] * dt;
+        states[base + 1] += states[base + 3] * dt;
+
+        int p = base + STATE;
+        for (int c = 0; c < STATE; c++) {
+            states[p + c] += dt * states[p + 8 + c];
+            states[p + 4 + c] += dt * states[p + 12 + c];
+        }
+        for (int r = 0; r < STATE; r++) {
+            int row = p + r * STATE;
+            states[row] += dt * states[row + 2];
+            states[row + 1] += dt * states[row + 3];
+        }
+
+        double q3 = processNoise * dt * dt * dt / 3;
+        double q2 = processNoise * dt * dt / 2;
+        double q1 = processNoise * dt;
+        states[p] += q3;
+        states[p + 2] += q2;
+        states[p + 8] += q2;
+        states[p + 10] += q1;
+        states[p + 5] += q3;
+        states[p + 7] += q2;
+        states[p + 13] += q2;
+        states[p + 15] += q1;
+    }
+
+    /**
+     * Fuses a single range measurement, linearized around the current position.
+     * @return {@code true} if the measurement passed the gate and was fused.
+     */
+    private boolean fuse(int base, double satelliteX, double satelliteY, double distance) {
+        double dx = states[base] - satelliteX;
+        double dy = states[base + 1] - satelliteY;
+        double predicted = Math.hypot(dx, dy);
+        if (predicted == 0) {
+            return false;
+        }
+        double hx = dx / predicted;
+        double hy = dy / predicted;
+
+        int p = base + STATE;
+        for (int i = 0; i < STATE; i++) {
+            gain[i] = states[p + i * STATE] * hx + states[p + i * STATE + 1] * hy;
+        }
+        double innovationVariance = hx * gain[0] + hy * gain[1] + measurementVariance;
+        double innovation = distance - predicted;
+        if (innovation * innovation > gateSquared * innovationVariance) {
+            return false;
+        }
+
+        for (int i = 0; i < STATE; i++) {
+            double k = gain[i] / innovationVariance;
+            states[base + i] += k * innovation;
+            for (int j = 0; j < STATE; j++) {
+                states[p + i * STATE + j] -= k * gain[j];
+            }
+        }
+        return true;
+    }
+
+    private TrackEstimate estimate(int base, int accepted, int rejected) {
+        return new TrackEstimate(states[base], states[base + 1], states[base + 2], states[base + 3],
+                accepted, rejected);
+    }
+
+    /**
+     * Gets a free slot, evicting the least recently updated track if the table is full.
+     */
+    private int allocate() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (usedSlots == updatedAt.length && usedSlots < maxShips) {
+            int capacity = Math.min(maxShips, usedSlots * 2);
+            states = Arrays.copyOf(states, capacity * STRIDE);
+            updatedAt = Arrays.copyOf(updatedAt, capacity);
+            freeSlots = Arrays.copyOf(freeSlots, capacity);
+        }
+        if (usedSlots < updatedAt.length) {
+            return usedSlots++;
+        }
+
+        Iterator<Integer> eldest = slots.values().iterator();
+        int slot = eldest.next();
+        eldest.remove();
+        return slot;
+    }
+
+    private void release(int slot) {
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * Removes expired tracks from the least recently updated end of the table.
+     */
+    private void evictExpired(long now) {
+        Iterator<Map.Entry<String, Integer>> iterator = slots.entrySet().iterator();
+        while (iterator.hasNext()) {
+            int slot = iterator.next().getValue();
+            if (now - updatedAt[slot] < ttlNanos) {
+                break;
+            }
+            iterator.remove();
+            release(slot);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.jaguzmanb1.quasar.service.track;
+
+/**
+ * Position and velocity of a tracked ship after an update, together with the number of range measurements
+ * of that update that were fused into the track and the number rejected as outliers.
+ */
+public final class TrackEstimate {
+
+    private final double x;
+    private final double y;
+    private final double velocityX;
+    private final double velocityY;
+    private final int accepted;
+    private final int rejected;
+
+    /**
+     * Creates an estimate.
+     *
+     * @param x X coordinate of the ship.
+     * @param y Y coordinate of the ship.
+     * @param velocityX Velocity along X, in units per second.
+     * @param velocityY Velocity along Y, in units per second.
+     * @param accepted Number of measurements fused into the track.
+     * @param rejected Number of measurements rejected by the gate.
+     */
+    public TrackEstimate(double x, double y, double velocityX, double velocityY, int accepted, int rejected) {
+        this.x = x;
+        this.y = y;
+        this.velocityX = velocityX;
+        this.velocityY = velocityY;
+        this.accepted = accepted;
+        this.rejected = rejected;
+    }
+
+    /**
+     * Gets the X coordinate of the ship.
+     *
+     * @return The X coordinate.
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Gets the Y coordinate of the ship.
+     *
+     * @return The Y coordinate.
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Gets the velocity of the ship along X.
+     *
+     * @return The velocity, in units per second.
+     */
+    public double getVelocityX() {
+        return velocityX;
+    }
+
+    /**
+     * Gets the velocity of the ship along Y.
+     *
+     * @return The velocity, in units per second.
+     */
+    public double getVelocityY() {
+        return velocityY;
+    }
+
+    /**
+     * Gets the number of measurements fused into the track.
+     *
+     * @return The accepted measurement count.
+     */
+    public int getAccepted() {
+        return accepted;
+    }
+
+    /**
+     * Gets the number of measurements rejected as inconsistent with the track.
+     *
+     * @return The rejected measurement count.
+     */
+    public int getRejected() {
+        return rejected;
+    }
+}
@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS satellites (
+    id               INTEGER PRIMARY KEY AUTOINCREMENT,
+    name             VARCHAR(255) NOT NULL UNIQUE,
+    position_x       INTEGER      NOT NULL,
+    position_y       INTEGER      NOT NULL,
+    distance         FLOAT        NOT NULL,
+    received_message BLOB
+);
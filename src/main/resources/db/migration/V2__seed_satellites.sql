@@ -0,0 +1,4 @@
+INSERT OR IGNORE INTO satellites (name, position_x, position_y, distance, received_message) VALUES
+    ('kenobi', -500, -200, 0.0, NULL),
+    ('skywalker', 100, -100, 0.0, NULL),
+    ('sato', 500, 100, 0.0, NULL);
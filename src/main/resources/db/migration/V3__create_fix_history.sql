@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS fix_history (
+    id         INTEGER PRIMARY KEY AUTOINCREMENT,
+    solved_at  BIGINT  NOT NULL,
+    satellites TEXT    NOT NULL,
+    position_x INTEGER NOT NULL,
+    position_y INTEGER NOT NULL,
+    message    TEXT,
+    residual   FLOAT
+);
+
+CREATE INDEX IF NOT EXISTS idx_fix_history_solved_at ON fix_history (solved_at);
@@ -0,0 +1,77 @@
+package com.github.jaguzmanb1.quasar.benchmark;
+
+import com.github.jaguzmanb1.quasar.service.location.BatchTrilaterationSolver;
+import com.github.jaguzmanb1.quasar.service.location.ConstellationGeometry;
+import com.github.jaguzmanb1.quasar.service.location.TrilaterationCalculator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.awt.*;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ways of solving a column batch of fixes against the same constellation: one
+ * {@link TrilaterationCalculator} call per fix, the scalar {@link ConstellationGeometry#solveAll} kernel and
+ * the SIMD {@link BatchTrilaterationSolver}. The forked JVM is started with the Vector API module so that
+ * {@code vectorKernel} does use SIMD lanes; check {@link BatchTrilaterationSolver#isVectorized()} if in doubt.
+ * Scores are per batch; divide by {@code fixes} to compare the cost of a single fix.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class BatchTrilaterationBenchmark {
+
+    @Param({"1024", "65536"})
+    private int fixes;
+
+    private final Point kenobi = new Point(-500, -200);
+    private final Point skywalker = new Point(100, -100);
+    private final Point sato = new Point(500, 100);
+    private final TrilaterationCalculator calculator = new TrilaterationCalculator();
+
+    private ConstellationGeometry geometry;
+    private double[] r1;
+    private double[] r2;
+    private double[] r3;
+    private double[] outX;
+    private double[] outY;
+
+    @Setup
+    public void setUp() {
+        geometry = ConstellationGeometry.of(kenobi.x, kenobi.y, skywalker.x, skywalker.y, sato.x, sato.y);
+
+        Random random = new Random(42);
+        r1 = new double[fixes];
+        r2 = new double[fixes];
+        r3 = new double[fixes];
+        outX = new double[fixes];
+        outY = new double[fixes];
+        for (int k = 0; k < fixes; k++) {
+            Point target = new Point(random.nextInt(2000) - 1000, random.nextInt(2000) - 1000);
+            r1[k] = target.distance(kenobi);
+            r2[k] = target.distance(skywalker);
+            r3[k] = target.distance(sato);
+        }
+    }
+
+    @Benchmark
+    public void calculatorPerFix(Blackhole blackhole) {
+        for (int k = 0; k < fixes; k++) {
+            blackhole.consume(calculator.calculateLocation(kenobi, r1[k], skywalker, r2[k], sato, r3[k]));
+        }
+    }
+
+    @Benchmark
+    public int scalarKernel() {
+        return geometry.solveAll(r1, r2, r3, outX, outY, fixes);
+    }
+
+    @Benchmark
+    public int vectorKernel() {
+        return BatchTrilaterationSolver.solveAll(geometry, r1, r2, r3, outX, outY, fixes);
+    }
+}
@@ -0,0 +1,212 @@
+package com.github.jaguzmanb1.quasar.benchmark;
+
+import java.awt.*;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop load generator for {@code POST /topsecret} and {@code GET /topsecret_split}.
+ * <p>
+ * Each simulated client runs on its own virtual thread and sends one request after another for the whole
+ * measurement window, so the number of concurrent requests equals the number of clients. The harness does
+ * not start the application: start it once with {@code spring.threads.virtual.enabled=false} and once with
+ * {@code true}, run the harness against each and compare the throughput and p99 latency it reports.
+ * <p>
+ * Arguments: {@code [baseUrl] [clients] [durationSeconds] [warmupSeconds]}, defaulting to
+ * {@code http://localhost:8080 1000 30 5}.
+ */
+public final class LoadTestHarness {
+
+    private static final Point KENOBI = new Point(-500, -200);
+    private static final Point SKYWALKER = new Point(100, -100);
+    private static final Point SATO = new Point(500, 100);
+    private static final Point TARGET = new Point(-100, 75);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final int clients;
+
+    private LoadTestHarness(HttpClient client, String baseUrl, int clients) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.clients = clients;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+        Duration warmup = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 5);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            LoadTestHarness harness = new LoadTestHarness(client, baseUrl, clients);
+
+            harness.loadSplitState();
+            HttpRequest topSecret = harness.topSecretRequest();
+            HttpRequest split = HttpRequest.newBuilder(URI.create(baseUrl + "/topsecret_split")).GET().build();
+
+            System.out.printf("%d clients, %ds per scenario against %s%n", clients, duration.toSeconds(), baseUrl);
+            System.out.printf("%-16s %10s %8s %12s %10s %10s %10s%n",
+                    "scenario", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+
+            harness.run(executor, "topsecret", topSecret, warmup, duration);
+            harness.run(executor, "topsecret_split", split, warmup, duration);
+        }
+    }
+
+    /**
+     * Runs a warm-up window, whose results are discarded, followed by the measurement window.
+     */
+    private void run(ExecutorService executor, String name, HttpRequest request, Duration warmup, Duration duration)
+            throws Exception {
+        measure(executor, request, warmup);
+        Result result = measure(executor, request, duration);
+        result.print(name, duration);
+    }
+
+    private Result measure(ExecutorService executor, HttpRequest request, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        List<Future<Recorder>> futures = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            futures.add(executor.submit(() -> {
+                Recorder recorder = new Recorder();
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        recorder.record(System.nanoTime() - start, response.statusCode() < 300);
+                    } catch (IOException ex) {
+                        recorder.record(System.nanoTime() - start, false);
+                    }
+                }
+                return recorder;
+            }));
+        }
+
+        Result result = new Result();
+        for (Future<Recorder> future : futures) {
+            result.add(future.get());
+        }
+        return result;
+    }
+
+    /**
+     * Stores a complete set of readings so that the split-mode endpoint can be solved.
+     */
+    private void loadSplitState() throws IOException, InterruptedException {
+        post("/topsecret_split/kenobi", info(TARGET.distance(KENOBI), "\"este\", \"\", \"\", \"mensaje\", \"\""));
+        post("/topsecret_split/skywalker", info(TARGET.distance(SKYWALKER), "\"\", \"es\", \"\", \"\", \"secreto\""));
+        post("/topsecret_split/sato", info(TARGET.distance(SATO), "\"este\", \"\", \"un\", \"\", \"\""));
+    }
+
+    private HttpRequest topSecretRequest() {
+        String body = "{\"satellites\": ["
+                + satellite("kenobi", TARGET.distance(KENOBI), "\"este\", \"\", \"\", \"mensaje\", \"\"") + ", "
+                + satellite("skywalker", TARGET.distance(SKYWALKER), "\"\", \"es\", \"\", \"\", \"secreto\"") + ", "
+                + satellite("sato", TARGET.distance(SATO), "\"este\", \"\", \"un\", \"\", \"\"")
+                + "]}";
+        return jsonPost("/topsecret", body);
+    }
+
+    private void post(String path, String body) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(jsonPost(path, body), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("POST " + path + " failed with " + response.statusCode() + ": "
+                    + response.body());
+        }
+    }
+
+    private HttpRequest jsonPost(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String satellite(String name, double distance, String message) {
+        return String.format(Locale.ROOT, "{\"name\": \"%s\", \"distance\": %.6f, \"message\": [%s]}",
+                name, distance, message);
+    }
+
+    private static String info(double distance, String message) {
+        return String.format(Locale.ROOT, "{\"distance\": %.6f, \"message\": [%s]}", distance, message);
+    }
+
+    /**
+     * Latencies recorded by a single client, kept in a growable primitive array.
+     */
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        private void record(long latencyNanos, boolean success) {
+            if (!success) {
+                errors++;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+        }
+    }
+
+    /**
+     * Latencies of every client merged together.
+     */
+    private static final class Result {
+        private final List<Recorder> recorders = new ArrayList<>();
+        private int count;
+        private int errors;
+
+        private void add(Recorder recorder) {
+            recorders.add(recorder);
+            count += recorder.count;
+            errors += recorder.errors;
+        }
+
+        private void print(String name, Duration duration) {
+            long[] all = new long[count];
+            int offset = 0;
+            for (Recorder recorder : recorders) {
+                System.arraycopy(recorder.latencies, 0, all, offset, recorder.count);
+                offset += recorder.count;
+            }
+            Arrays.sort(all);
+
+            System.out.printf(Locale.ROOT, "%-16s %10d %8d %12.1f %10.2f %10.2f %10.2f%n",
+                    name, count, errors, count / (double) duration.toSeconds(),
+                    millis(percentile(all, 0.50)), millis(percentile(all, 0.99)),
+                    millis(count > 0 ? all[count - 1] : 0));
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.jaguzmanb1.quasar.benchmark;
+
+import com.github.jaguzmanb1.quasar.service.messages.DefaultMessageDecoder;
+import com.github.jaguzmanb1.quasar.service.messages.LinearMessageDecoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the stream-based {@link DefaultMessageDecoder} with the single-pass {@link LinearMessageDecoder}
+ * for a growing number of senders and message lengths. Every word of the message is received by at least
+ * one sender and each sender misses about half of the words.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageDecoderBenchmark {
+
+    @Param({"3", "10", "100"})
+    private int senders;
+
+    @Param({"10", "1000", "100000"})
+    private int words;
+
+    private final DefaultMessageDecoder defaultDecoder = new DefaultMessageDecoder();
+    private final LinearMessageDecoder linearDecoder = new LinearMessageDecoder();
+
+    private List<List<String>> messages;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        List<List<String>> fragments = new ArrayList<>(senders);
+        for (int s = 0; s < senders; s++) {
+            fragments.add(new ArrayList<>(Collections.nCopies(words, "")));
+        }
+
+        for (int w = 0; w < words; w++) {
+            String word = "word" + w;
+            fragments.get(random.nextInt(senders)).set(w, word);
+            for (List<String> fragment : fragments) {
+                if (random.nextBoolean()) {
+                    fragment.set(w, word);
+                }
+            }
+        }
+
+        messages = fragments;
+    }
+
+    @Benchmark
+    public String defaultDecoder() {
+        return defaultDecoder.decodeMessage(messages);
+    }
+
+    @Benchmark
+    public String linearDecoder() {
+        return linearDecoder.decodeMessage(messages);
+    }
+}
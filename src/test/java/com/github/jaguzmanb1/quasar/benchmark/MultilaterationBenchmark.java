@@ -0,0 +1,53 @@
+package com.github.jaguzmanb1.quasar.benchmark;
+
+import com.github.jaguzmanb1.quasar.service.location.LeastSquaresMultilaterationCalculator;
+import com.github.jaguzmanb1.quasar.service.location.LocationEstimate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link LeastSquaresMultilaterationCalculator} for a growing number of satellites, placed on a ring
+ * around the target with slightly noisy distances so that Gauss-Newton needs a few iterations to converge.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MultilaterationBenchmark {
+
+    @Param({"3", "4", "8", "32", "128"})
+    private int satellites;
+
+    private final LeastSquaresMultilaterationCalculator calculator =
+            new LeastSquaresMultilaterationCalculator(20, 1e-6, 10.0);
+
+    private double[] xs;
+    private double[] ys;
+    private double[] distances;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        double targetX = -100;
+        double targetY = 75;
+
+        xs = new double[satellites];
+        ys = new double[satellites];
+        distances = new double[satellites];
+        for (int i = 0; i < satellites; i++) {
+            double angle = 2 * Math.PI * i / satellites;
+            xs[i] = Math.round(600 * Math.cos(angle));
+            ys[i] = Math.round(600 * Math.sin(angle));
+            distances[i] = Math.hypot(xs[i] - targetX, ys[i] - targetY) + random.nextGaussian();
+        }
+    }
+
+    @Benchmark
+    public LocationEstimate leastSquares() {
+        return calculator.estimateLocation(xs, ys, distances, satellites);
+    }
+}
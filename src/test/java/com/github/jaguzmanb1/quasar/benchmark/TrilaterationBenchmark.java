@@ -0,0 +1,97 @@
+package com.github.jaguzmanb1.quasar.benchmark;
+
+import com.github.jaguzmanb1.quasar.exception.InvalidIntersectionException;
+import com.github.jaguzmanb1.quasar.service.location.ConstellationGeometry;
+import com.github.jaguzmanb1.quasar.service.location.TrilaterationCalculator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link Point}-based {@link TrilaterationCalculator} with the primitive
+ * {@link ConstellationGeometry} kernel. Run with the gc profiler to check allocations per solve
+ * ({@code gc.alloc.rate.norm}), which must be zero for the kernel.
+ * <p>
+ * Besides the regular constellation, the {@code geometry} parameter covers the degenerate cases: satellites on
+ * a line, two satellites at the same position, and distances whose circles do not intersect, which takes the
+ * exception path of the calculator. {@code primitiveKernelWithSetup} builds the geometry on every solve, which is
+ * the cost paid when the constellation is not cached.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TrilaterationBenchmark {
+
+    @Param({"regular", "collinear", "coincident", "disjoint"})
+    private String geometryType;
+
+    private Point kenobi;
+    private Point skywalker;
+    private Point sato;
+
+    private final TrilaterationCalculator calculator = new TrilaterationCalculator();
+    private final double[] out = new double[2];
+
+    private ConstellationGeometry geometry;
+    private double r1;
+    private double r2;
+    private double r3;
+
+    @Setup
+    public void setUp() {
+        kenobi = new Point(-500, -200);
+        skywalker = new Point(100, -100);
+        sato = new Point(500, 100);
+        Point target = new Point(-100, 75);
+
+        switch (geometryType) {
+            case "collinear" -> {
+                skywalker = new Point(0, 0);
+                sato = new Point(500, 200);
+            }
+            case "coincident" -> skywalker = new Point(kenobi.x, kenobi.y);
+            case "disjoint", "regular" -> { }
+            default -> throw new IllegalArgumentException("Unknown geometry: " + geometryType);
+        }
+
+        geometry = ConstellationGeometry.of(kenobi.x, kenobi.y, skywalker.x, skywalker.y, sato.x, sato.y);
+
+        r1 = target.distance(kenobi);
+        r2 = target.distance(skywalker);
+        r3 = target.distance(sato);
+        if (geometryType.equals("disjoint")) {
+            r1 /= 10;
+            r2 /= 10;
+            r3 /= 10;
+        }
+    }
+
+    @Benchmark
+    public Point calculator() {
+        try {
+            return calculator.calculateLocation(kenobi, r1, skywalker, r2, sato, r3);
+        } catch (InvalidIntersectionException ex) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public void primitiveKernel(Blackhole blackhole) {
+        blackhole.consume(geometry.solve(r1, r2, r3, out));
+        blackhole.consume(out[0]);
+        blackhole.consume(out[1]);
+    }
+
+    @Benchmark
+    public void primitiveKernelWithSetup(Blackhole blackhole) {
+        ConstellationGeometry fresh = ConstellationGeometry.of(kenobi.x, kenobi.y, skywalker.x, skywalker.y, sato.x, sato.y);
+        blackhole.consume(fresh.solve(r1, r2, r3, out));
+        blackhole.consume(out[0]);
+        blackhole.consume(out[1]);
+    }
+}
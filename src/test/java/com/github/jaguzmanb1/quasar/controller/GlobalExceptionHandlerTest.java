@@ -0,0 +1,52 @@
+package com.github.jaguzmanb1.quasar.controller;
+
+import com.github.jaguzmanb1.quasar.exception.InvalidSearchAreaException;
+import com.github.jaguzmanb1.quasar.exception.SatelliteNotFoundException;
+import com.github.jaguzmanb1.quasar.exception.SessionNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    public void testInvalidSearchAreaIsABadRequest() {
+        ResponseEntity<Map<String, String>> response =
+                handler.handleInvalidSearchArea(new InvalidSearchAreaException("Radius cannot be negative."));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Radius cannot be negative.", response.getBody().get("error"));
+    }
+
+    @Test
+    public void testUnknownSatelliteIsNotFound() {
+        ResponseEntity<Map<String, String>> response =
+                handler.handleSatelliteNotFound(new SatelliteNotFoundException("vader"));
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("Satellite not found: vader", response.getBody().get("error"));
+    }
+
+    @Test
+    public void testUnknownSessionIsNotFound() {
+        ResponseEntity<Map<String, String>> response =
+                handler.handleSessionNotFound(new SessionNotFoundException("ship-1"));
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("Session not found: ship-1", response.getBody().get("error"));
+    }
+
+    @Test
+    public void testOtherErrorsAreServerErrors() {
+        ResponseEntity<Map<String, String>> response =
+                handler.handleGeneralException(new IllegalStateException("database is locked"));
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+}
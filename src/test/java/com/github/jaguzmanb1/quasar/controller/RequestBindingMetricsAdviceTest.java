@@ -0,0 +1,65 @@
+package com.github.jaguzmanb1.quasar.controller;
+
+import com.github.jaguzmanb1.quasar.dto.TopSecretBatchRequestDTO;
+import com.github.jaguzmanb1.quasar.dto.TopSecretRequestDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+public class RequestBindingMetricsAdviceTest {
+
+    @Mock
+    private RequestAttributes requestAttributes;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestBindingMetricsAdvice advice = new RequestBindingMetricsAdvice(meterRegistry);
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(requestAttributes.getAttribute(anyString(), eq(RequestAttributes.SCOPE_REQUEST)))
+                .thenReturn(System.nanoTime());
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void testBindingTimesAreRecordedOncePerTypeTimer() throws Exception {
+        MethodParameter single = new MethodParameter(
+                Endpoints.class.getDeclaredMethod("single", TopSecretRequestDTO.class), 0);
+        MethodParameter batch = new MethodParameter(
+                Endpoints.class.getDeclaredMethod("batch", TopSecretBatchRequestDTO.class), 0);
+
+        for (int i = 0; i < 3; i++) {
+            advice.afterBodyRead(null, null, single, TopSecretRequestDTO.class, null);
+        }
+        advice.afterBodyRead(null, null, batch, TopSecretBatchRequestDTO.class, null);
+
+        assertEquals(2, meterRegistry.find("quasar.request.binding").timers().size());
+        assertEquals(3, meterRegistry.get("quasar.request.binding").tag("type", "TopSecretRequestDTO").timer().count());
+        assertEquals(1, meterRegistry.get("quasar.request.binding").tag("type", "TopSecretBatchRequestDTO").timer().count());
+    }
+
+    private static final class Endpoints {
+        void single(TopSecretRequestDTO request) {
+        }
+
+        void batch(TopSecretBatchRequestDTO request) {
+        }
+    }
+}
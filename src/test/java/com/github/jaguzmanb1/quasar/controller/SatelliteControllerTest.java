@@ -0,0 +1,72 @@
+package com.github.jaguzmanb1.quasar.controller;
+
+import com.github.jaguzmanb1.quasar.dto.SatellitePositionDTO;
+import com.github.jaguzmanb1.quasar.entity.Satellite;
+import com.github.jaguzmanb1.quasar.service.SatelliteService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.awt.*;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SatelliteControllerTest {
+
+    @Mock
+    private SatelliteService satelliteService;
+
+    private SatelliteController satelliteController;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        satelliteController = new SatelliteController(satelliteService);
+    }
+
+    @Test
+    public void testSaveSatelliteUsesTheRequestedPosition() {
+        Satellite saved = new Satellite("vader", new Point(10, 20));
+        when(satelliteService.saveSatellite("vader", new Point(10, 20))).thenReturn(saved);
+
+        ResponseEntity<Satellite> response = satelliteController.saveSatellite("vader", new SatellitePositionDTO(10, 20));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(saved, response.getBody());
+    }
+
+    @Test
+    public void testDeleteSatelliteReturnsNoContent() {
+        ResponseEntity<Void> response = satelliteController.deleteSatellite("kenobi");
+
+        verify(satelliteService).deleteSatellite("kenobi");
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    public void testSearchesAreDelegatedToTheService() {
+        List<Satellite> nearby = List.of(new Satellite("sato", new Point(500, 100)));
+        List<Satellite> region = List.of(new Satellite("kenobi", new Point(-500, -200)));
+        when(satelliteService.getSatellitesWithinRange(400, 100, 200)).thenReturn(nearby);
+        when(satelliteService.getSatellitesInRegion(-600, -300, -400, -100)).thenReturn(region);
+
+        assertEquals(nearby, satelliteController.getSatellitesNearby(400, 100, 200).getBody());
+        assertEquals(region, satelliteController.getSatellitesInRegion(-600, -300, -400, -100).getBody());
+    }
+
+    @Test
+    public void testGetSatelliteReturnsTheStoredSatellite() {
+        Satellite kenobi = new Satellite("kenobi", new Point(-500, -200));
+        when(satelliteService.getSatellite("kenobi")).thenReturn(kenobi);
+
+        assertEquals(kenobi, satelliteController.getSatellite("kenobi").getBody());
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.jaguzmanb1.quasar.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MessageFragmentsConverterTest {
+
+    private final MessageFragmentsConverter converter = new MessageFragmentsConverter();
+
+    @Test
+    public void testRoundTripKeepsEmptyFragmentsAndCommas() {
+        List<String> fragments = Arrays.asList("este", "", "un, dos", "", "mensaje", "");
+
+        byte[] data = converter.convertToDatabaseColumn(fragments);
+
+        assertEquals(fragments, converter.convertToEntityAttribute(data));
+    }
+
+    @Test
+    public void testRoundTripWithNonAsciiAndLongFragments() {
+        String longFragment = "ñ".repeat(300);
+        List<String> fragments = Arrays.asList("señal", longFragment, "auxilio");
+
+        assertEquals(fragments, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(fragments)));
+    }
+
+    @Test
+    public void testNullAndEmptyLists() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+        assertEquals(List.of(), converter.convertToEntityAttribute(converter.convertToDatabaseColumn(List.of())));
+    }
+
+    @Test
+    public void testDecodeLegacyCommaSeparatedValue() {
+        byte[] legacy = "este,,,mensaje,".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(Arrays.asList("este", "", "", "mensaje", ""), converter.convertToEntityAttribute(legacy));
+        assertEquals(List.of(), converter.convertToEntityAttribute(new byte[0]));
+    }
+
+    @Test
+    public void testDecodeTruncatedData() {
+        byte[] data = converter.convertToDatabaseColumn(List.of("mensaje"));
+        byte[] truncated = Arrays.copyOf(data, data.length - 2);
+
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToEntityAttribute(truncated));
+    }
+}
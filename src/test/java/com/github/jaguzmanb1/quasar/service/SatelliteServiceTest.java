@@ -0,0 +1,92 @@
+package com.github.jaguzmanb1.quasar.service;
+
+import com.github.jaguzmanb1.quasar.entity.Satellite;
+import com.github.jaguzmanb1.quasar.exception.InvalidSearchAreaException;
+import com.github.jaguzmanb1.quasar.exception.SatelliteNotFoundException;
+import com.github.jaguzmanb1.quasar.repository.SatelliteRepositoryInterface;
+import com.github.jaguzmanb1.quasar.service.registry.SatelliteRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.awt.*;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SatelliteServiceTest {
+
+    @Mock
+    private SatelliteRepositoryInterface satelliteRepository;
+
+    private SatelliteRegistry satelliteRegistry;
+    private SatelliteService satelliteService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        satelliteRegistry = new SatelliteRegistry(satelliteRepository);
+        satelliteService = new SatelliteService(satelliteRegistry);
+    }
+
+    @Test
+    public void testSaveRegistersANewSatellite() {
+        when(satelliteRepository.findByName("vader")).thenReturn(Optional.empty());
+
+        Satellite saved = satelliteService.saveSatellite("vader", new Point(10, 20));
+
+        verify(satelliteRepository).save(saved);
+        assertEquals(new Point(10, 20), saved.getPosition());
+        assertEquals(saved, satelliteService.getSatellite("vader"));
+    }
+
+    @Test
+    public void testMovingASatelliteKeepsItsReadingAndChangesThePositionsVersion() {
+        Satellite kenobi = new Satellite("kenobi", new Point(-500, -200), 100.0, List.of("este", "", "un"));
+        when(satelliteRepository.findByName("kenobi")).thenReturn(Optional.of(kenobi));
+        satelliteService.getSatellite("kenobi");
+        long version = satelliteRegistry.getPositionsVersion();
+
+        Satellite moved = satelliteService.saveSatellite("kenobi", new Point(-400, -200));
+
+        assertNotEquals(version, satelliteRegistry.getPositionsVersion());
+        assertEquals(new Point(-400, -200), moved.getPosition());
+        assertEquals(100.0, moved.getDistance());
+        assertEquals(List.of("este", "", "un"), moved.getReceivedMessage());
+        assertEquals(new Point(-500, -200), kenobi.getPosition());
+    }
+
+    @Test
+    public void testUnknownSatellitesAreReported() {
+        when(satelliteRepository.findByName("vader")).thenReturn(Optional.empty());
+
+        assertThrows(SatelliteNotFoundException.class, () -> satelliteService.getSatellite("vader"));
+        assertThrows(SatelliteNotFoundException.class, () -> satelliteService.deleteSatellite("vader"));
+    }
+
+    @Test
+    public void testInvalidSearchAreasAreRejected() {
+        assertThrows(InvalidSearchAreaException.class, () -> satelliteService.getSatellitesWithinRange(0, 0, -1));
+        assertThrows(InvalidSearchAreaException.class, () -> satelliteService.getSatellitesInRegion(10, 0, 0, 10));
+        assertThrows(InvalidSearchAreaException.class, () -> satelliteService.getSatellitesInRegion(0, 10, 10, 0));
+    }
+
+    @Test
+    public void testSearchesAreServedFromTheRegistry() {
+        when(satelliteRepository.findAll()).thenReturn(List.of(
+                new Satellite("kenobi", new Point(-500, -200)),
+                new Satellite("skywalker", new Point(100, -100)),
+                new Satellite("sato", new Point(500, 100))
+        ));
+
+        assertEquals(3, satelliteService.getSatellites().size());
+        assertEquals("skywalker", satelliteService.getSatellitesWithinRange(0, 0, 200).get(0).getName());
+        assertEquals("sato", satelliteService.getSatellitesInRegion(400, 0, 600, 200).get(0).getName());
+    }
+}
@@ -0,0 +1,150 @@
+package com.github.jaguzmanb1.quasar.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.jaguzmanb1.quasar.dto.TopSecretResponseDTO;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.awt.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class TopSecretStreamServiceTest {
+
+    private static final String VALID_RECORD = "{\"satellites\": ["
+            + "{\"name\": \"kenobi\", \"distance\": 100.0, \"message\": [\"este\", \"\", \"\", \"mensaje\", \"\"]}, "
+            + "{\"name\": \"skywalker\", \"distance\": 115.5, \"message\": [\"\", \"es\", \"\", \"\", \"secreto\"]}, "
+            + "{\"name\": \"sato\", \"distance\": 142.7, \"message\": [\"este\", \"\", \"un\", \"\", \"\"]}]}";
+
+    @Mock
+    private TranslationService translationService;
+
+    private TopSecretStreamService streamService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        streamService = new TopSecretStreamService(translationService,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper());
+        when(translationService.returnTopSecretResponse(any()))
+            .thenReturn(new TopSecretResponseDTO(new Point(-100, 75), "este es un mensaje secreto"));
+    }
+
+    @Test
+    public void testEachRecordIsAnsweredOnItsOwnLine() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long processed = streamService.process(input(VALID_RECORD + "\n\n" + VALID_RECORD + "\n"), output);
+
+        assertEquals(2, processed);
+        assertEquals(List.of(
+                "{\"position\":{\"x\":-100.0,\"y\":75.0},\"message\":\"este es un mensaje secreto\"}",
+                "{\"position\":{\"x\":-100.0,\"y\":75.0},\"message\":\"este es un mensaje secreto\"}"
+        ), lines(output));
+    }
+
+    @Test
+    public void testInvalidRecordsAreReportedInlineWithoutEndingTheStream() throws IOException {
+        when(translationService.returnTopSecretResponse(any()))
+            .thenThrow(new IllegalArgumentException("Missing required satellites in database."))
+            .thenReturn(new TopSecretResponseDTO(new Point(-100, 75), "este es un mensaje secreto"));
+        String tooFewSatellites = "{\"satellites\": [{\"name\": \"kenobi\", \"distance\": 100.0, \"message\": [\"este\"]}]}";
+        String wrongType = "{\"satellites\": \"kenobi\"}";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long processed = streamService.process(
+                input(tooFewSatellites + "\n" + wrongType + "\n" + VALID_RECORD + "\n" + VALID_RECORD), output);
+
+        List<String> lines = lines(output);
+        assertEquals(4, processed);
+        assertEquals("{\"error\":\"The list of satellites must have at least three elements\"}", lines.get(0));
+        assertTrue(lines.get(1).startsWith("{\"error\":\"Invalid record: "));
+        assertEquals("{\"error\":\"Missing required satellites in database.\"}", lines.get(2));
+        assertEquals("{\"position\":{\"x\":-100.0,\"y\":75.0},\"message\":\"este es un mensaje secreto\"}", lines.get(3));
+    }
+
+    @Test
+    public void testMalformedRecordEndsTheStreamWithAnError() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long processed = streamService.process(input(VALID_RECORD + "\n{\"satellites\": [}\n" + VALID_RECORD), output);
+
+        List<String> lines = lines(output);
+        assertEquals(2, processed);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).startsWith("{\"error\":\"Malformed record: "));
+    }
+
+    @Test
+    public void testResultsAreFlushedWhileWaitingForTheNextRecord() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        IdleInputStream input = new IdleInputStream(output, VALID_RECORD + "\n", VALID_RECORD + "\n");
+
+        streamService.process(input, output);
+
+        assertEquals(1, input.outputLinesBeforeSecondRecord);
+        assertEquals(2, lines(output).size());
+    }
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> lines(ByteArrayOutputStream output) {
+        return output.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    /**
+     * Live feed that never has data immediately available and hands out one record per read, recording how
+     * many results had reached the output when the second record was requested.
+     */
+    private static final class IdleInputStream extends InputStream {
+        private final ByteArrayOutputStream output;
+        private final byte[][] records;
+        private int next;
+        private int outputLinesBeforeSecondRecord = -1;
+
+        private IdleInputStream(ByteArrayOutputStream output, String... records) {
+            this.output = output;
+            this.records = new byte[records.length][];
+            for (int i = 0; i < records.length; i++) {
+                this.records[i] = records[i].getBytes(StandardCharsets.UTF_8);
+            }
+        }
+
+        @Override
+        public int read() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (next == records.length) {
+                return -1;
+            }
+            if (next == 1) {
+                outputLinesBeforeSecondRecord = lines(output).size();
+            }
+            byte[] record = records[next++];
+            System.arraycopy(record, 0, buffer, offset, record.length);
+            return record.length;
+        }
+
+        @Override
+        public int available() {
+            return 0;
+        }
+    }
+}
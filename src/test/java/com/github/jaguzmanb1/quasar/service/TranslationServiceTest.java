@@ -1,24 +1,44 @@
 package com.github.jaguzmanb1.quasar.service;
 
 import com.github.jaguzmanb1.quasar.dto.SpaceShipInfoDTO;
+import com.github.jaguzmanb1.quasar.dto.TopSecretBatchResponseDTO;
+import com.github.jaguzmanb1.quasar.dto.TopSecretRequestDTO;
 import com.github.jaguzmanb1.quasar.dto.TopSecretResponseDTO;
 import com.github.jaguzmanb1.quasar.entity.Satellite;
+import com.github.jaguzmanb1.quasar.exception.InvalidSessionIdException;
+import com.github.jaguzmanb1.quasar.exception.SatelliteNotFoundException;
+import com.github.jaguzmanb1.quasar.exception.SessionNotFoundException;
 import com.github.jaguzmanb1.quasar.repository.SatelliteRepositoryInterface;
+import com.github.jaguzmanb1.quasar.service.cache.TopSecretResponseCache;
+import com.github.jaguzmanb1.quasar.service.history.FixHistoryRecord;
+import com.github.jaguzmanb1.quasar.service.history.FixHistoryRecorder;
 import com.github.jaguzmanb1.quasar.service.location.LocationCalculatorInterface;
 import com.github.jaguzmanb1.quasar.service.messages.MessageDecoderInterface;
+import com.github.jaguzmanb1.quasar.service.registry.SatelliteRegistry;
+import com.github.jaguzmanb1.quasar.service.split.RepositorySplitStatePersister;
+import com.github.jaguzmanb1.quasar.service.split.SplitEventPublisher;
+import com.github.jaguzmanb1.quasar.service.split.SplitSessionTable;
+import com.github.jaguzmanb1.quasar.service.split.SplitStateStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.awt.*;
+import java.time.Duration;
 import java.util.*;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TranslationServiceTest {
@@ -32,13 +52,25 @@ public class TranslationServiceTest {
     @Mock
     private SatelliteRepositoryInterface satelliteRepository;
 
-    @InjectMocks
+    private SatelliteRegistry satelliteRegistry;
+    private FixHistoryRecorder fixHistoryRecorder;
+    private final List<FixHistoryRecord> fixHistory = new ArrayList<>();
     private TranslationService translationService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        satelliteRegistry = new SatelliteRegistry(satelliteRepository);
+        SplitStateStore splitStateStore = new SplitStateStore(new RepositorySplitStatePersister(satelliteRegistry,
+                List.of("kenobi", "skywalker", "sato")), Runnable::run);
+        fixHistoryRecorder = new FixHistoryRecorder(fixHistory::addAll, 100, 10, Duration.ofSeconds(1),
+                Duration.ZERO, Thread::new);
+        translationService = new TranslationService(locationCalculator, messageDecoder, satelliteRepository,
+                satelliteRegistry, splitStateStore, new SplitSessionTable(100, Duration.ofMinutes(5)),
+                new SplitEventPublisher(1000), new TopSecretResponseCache(100, Duration.ofMinutes(1)),
+                fixHistoryRecorder, new SimpleMeterRegistry(), true, List.of("kenobi", "skywalker", "sato"));
         translationService.init();
+        clearInvocations(satelliteRepository);
     }
 
     @Test
@@ -133,4 +165,288 @@ public class TranslationServiceTest {
             translationService.returnTopSecretResponse(spaceShipInfo);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testReturnTopSecretBatchResponse() {
+        List<SpaceShipInfoDTO> validFix = Arrays.asList(
+                new SpaceShipInfoDTO("kenobi", 1.0, Arrays.asList("this", "", "", "message")),
+                new SpaceShipInfoDTO("skywalker", 1.0, Arrays.asList("", "is", "", "")),
+                new SpaceShipInfoDTO("sato", 1.0, Arrays.asList("", "", "a", ""))
+        );
+        List<SpaceShipInfoDTO> unknownSatelliteFix = Arrays.asList(
+                new SpaceShipInfoDTO("kenobi", 1.0, List.of("this")),
+                new SpaceShipInfoDTO("skywalker", 1.0, List.of("is")),
+                new SpaceShipInfoDTO("vader", 1.0, List.of("a"))
+        );
+
+        when(satelliteRepository.findAllByNameIn(Set.of("kenobi", "skywalker", "sato", "vader")))
+            .thenReturn(Arrays.asList(
+                new Satellite("kenobi", new Point(1, 0)),
+                new Satellite("skywalker", new Point(-1, 0)),
+                new Satellite("sato", new Point(0, 1))
+            ));
+
+        when(locationCalculator.calculateLocation(
+                new Point(1, 0), 1.0,
+                new Point(-1, 0), 1.0,
+                new Point(0, 1), 1.0)
+        ).thenReturn(new Point(0, 0));
+
+        when(messageDecoder.decodeMessage(any())).thenReturn("this is a message");
+
+        TopSecretBatchResponseDTO response = translationService.returnTopSecretBatchResponse(List.of(
+                new TopSecretRequestDTO(validFix),
+                new TopSecretRequestDTO(unknownSatelliteFix),
+                new TopSecretRequestDTO(validFix)
+        ));
+
+        assertEquals(3, response.getResults().size());
+        assertEquals(new Point(0, 0), response.getResults().get(0).getPosition());
+        assertEquals("this is a message", response.getResults().get(0).getMessage());
+        assertNull(response.getResults().get(1).getPosition());
+        assertEquals("Missing required satellites in database.", response.getResults().get(1).getError());
+        assertEquals(new Point(0, 0), response.getResults().get(2).getPosition());
+        verify(satelliteRepository, times(1)).findAllByNameIn(any());
+    }
+
+    @Test
+    public void testRepeatedLookupsAreServedFromRegistry() {
+        when(satelliteRepository.findAllByNameIn(Set.of("kenobi", "skywalker", "sato")))
+            .thenReturn(Arrays.asList(
+                new Satellite("kenobi", new Point(1, 0), 1.0, Arrays.asList("this", "", "", "message")),
+                new Satellite("skywalker", new Point(-1, 0), 1.0, Arrays.asList("", "is", "", "")),
+                new Satellite("sato", new Point(0, 1), 1.0, Arrays.asList("", "", "a", ""))
+            ));
+        when(locationCalculator.calculateLocation(any(), anyDouble(), any(), anyDouble(), any(), anyDouble()))
+            .thenReturn(new Point(0, 0));
+        when(messageDecoder.decodeMessage(any())).thenReturn("this is a message");
+
+        translationService.returnSplitTopSecretResponse();
+        translationService.returnSplitTopSecretResponse();
+
+        verify(satelliteRepository, times(1)).findAllByNameIn(any());
+    }
+
+    @Test
+    public void testUpdateSatelliteInfoIsVisibleToSplitResponse() {
+        when(satelliteRepository.findAllByNameIn(Set.of("kenobi", "skywalker", "sato")))
+            .thenReturn(Arrays.asList(
+                new Satellite("kenobi", new Point(1, 0), 1.0, Arrays.asList("this", "", "", "message")),
+                new Satellite("skywalker", new Point(-1, 0), 1.0, Arrays.asList("", "is", "", "")),
+                new Satellite("sato", new Point(0, 1), 1.0, Arrays.asList("", "", "a", ""))
+            ));
+        when(locationCalculator.calculateLocation(any(), anyDouble(), any(), anyDouble(), any(), anyDouble()))
+            .thenReturn(new Point(0, 0));
+
+        translationService.returnSplitTopSecretResponse();
+
+        when(locationCalculator.calculateLocation(
+                new Point(1, 0), 1.0,
+                new Point(-1, 0), 1.0,
+                new Point(0, 1), 2.0)
+        ).thenReturn(new Point(5, 5));
+        when(messageDecoder.decodeMessage(List.of(
+                List.of("this", "", "", "message"),
+                List.of("", "is", "", ""),
+                List.of("", "", "one", "")
+        ))).thenReturn("this is one message");
+
+        translationService.updateSatelliteInfo("sato", new SpaceShipInfoDTO("sato", 2.0, List.of("", "", "one", "")));
+        TopSecretResponseDTO response = translationService.returnSplitTopSecretResponse();
+
+        assertEquals(new Point(5, 5), response.getPosition());
+        assertEquals("this is one message", response.getMessage());
+        verify(satelliteRepository).save(any(Satellite.class));
+    }
+
+    @Test
+    public void testUpdateOfUnknownSatelliteIsRejected() {
+        SpaceShipInfoDTO info = new SpaceShipInfoDTO("vader", 2.0, List.of("", "", "one", ""));
+
+        assertThrows(SatelliteNotFoundException.class, () -> translationService.updateSatelliteInfo("vader", info));
+        assertThrows(SatelliteNotFoundException.class,
+                () -> translationService.updateSessionSatelliteInfo("ship-1", "vader", info));
+    }
+
+    @Test
+    public void testSeededRowsDoNotCountAsSplitReadings() {
+        when(satelliteRepository.findByName("kenobi")).thenReturn(Optional.of(new Satellite("kenobi", new Point(1, 0))));
+        when(satelliteRepository.findAllByNameIn(Set.of("kenobi", "skywalker", "sato")))
+            .thenReturn(Arrays.asList(
+                new Satellite("kenobi", new Point(1, 0), 0.0, null),
+                new Satellite("skywalker", new Point(-1, 0), 0.0, null),
+                new Satellite("sato", new Point(0, 1), 0.0, null)
+            ));
+        translationService.init();
+
+        translationService.updateSatelliteInfo("kenobi", new SpaceShipInfoDTO("kenobi", 1.0, List.of("this")));
+
+        verify(locationCalculator, times(0)).calculateLocation(any(), anyDouble(), any(), anyDouble(), any(), anyDouble());
+        assertThrows(IllegalArgumentException.class, () -> translationService.returnSplitTopSecretResponse());
+    }
+
+    @Test
+    public void testSessionIdOfTheGlobalEventStreamIsRejected() {
+        SpaceShipInfoDTO info = new SpaceShipInfoDTO("kenobi", 1.0, List.of("this"));
+
+        assertThrows(InvalidSessionIdException.class,
+                () -> translationService.updateSessionSatelliteInfo("events", "kenobi", info));
+        assertThrows(InvalidSessionIdException.class, () -> translationService.subscribeToSessionSolutions("events"));
+        assertThrows(SessionNotFoundException.class, () -> translationService.returnSessionTopSecretResponse("events"));
+    }
+
+    @Test
+    public void testSplitSolutionIsReusedUntilAnInputChanges() {
+        when(satelliteRepository.findAllByNameIn(Set.of("kenobi", "skywalker", "sato")))
+            .thenReturn(Arrays.asList(
+                new Satellite("kenobi", new Point(1, 0), 1.0, List.of("this")),
+                new Satellite("skywalker", new Point(-1, 0), 1.0, List.of("is")),
+                new Satellite("sato", new Point(0, 1), 1.0, List.of("a"))
+            ));
+        when(locationCalculator.calculateLocation(any(), anyDouble(), any(), anyDouble(), any(), anyDouble()))
+            .thenReturn(new Point(0, 0));
+        when(messageDecoder.decodeMessage(any())).thenReturn("this is a");
+
+        translationService.returnSplitTopSecretResponse();
+        translationService.returnSplitTopSecretResponse();
+        translationService.returnSplitTopSecretResponse();
+
+        verify(locationCalculator, times(1)).calculateLocation(any(), anyDouble(), any(), anyDouble(), any(), anyDouble());
+
+        translationService.updateSatelliteInfo("sato", new SpaceShipInfoDTO("sato", 2.0, List.of("a")));
+        translationService.returnSplitTopSecretResponse();
+
+        verify(locationCalculator, times(2)).calculateLocation(any(), anyDouble(), any(), anyDouble(), any(), anyDouble());
+    }
+
+    @Test
+    public void testSplitSolutionsAreRecomputedWhenASatelliteMoves() {
+        when(satelliteRepository.findAllByNameIn(Set.of("kenobi", "skywalker", "sato")))
+            .thenReturn(Arrays.asList(
+                new Satellite("kenobi", new Point(1, 0), 1.0, List.of("this")),
+                new Satellite("skywalker", new Point(-1, 0), 1.0, List.of("is")),
+                new Satellite("sato", new Point(0, 1), 1.0, List.of("a"))
+            ));
+        when(locationCalculator.calculateLocation(any(), anyDouble(), any(), anyDouble(), any(), anyDouble()))
+            .thenReturn(new Point(0, 0));
+        when(messageDecoder.decodeMessage(any())).thenReturn("this is a");
+
+        translationService.returnSplitTopSecretResponse();
+        translationService.updateSessionSatelliteInfo("ship-1", "kenobi", new SpaceShipInfoDTO("kenobi", 1.0, List.of("this")));
+        translationService.updateSessionSatelliteInfo("ship-1", "skywalker", new SpaceShipInfoDTO("skywalker", 1.0, List.of("is")));
+        translationService.updateSessionSatelliteInfo("ship-1", "sato", new SpaceShipInfoDTO("sato", 1.0, List.of("a")));
+        translationService.returnSplitTopSecretResponse();
+        translationService.returnSessionTopSecretResponse("ship-1");
+
+        verify(locationCalculator, times(2)).calculateLocation(any(), anyDouble(), any(), anyDouble(), any(), anyDouble());
+
+        satelliteRegistry.save(new Satellite("sato", new Point(0, 2), 1.0, List.of("a")));
+        translationService.returnSplitTopSecretResponse();
+        translationService.returnSessionTopSecretResponse("ship-1");
+
+        verify(locationCalculator, times(2)).calculateLocation(
+                new Point(1, 0), 1.0, new Point(-1, 0), 1.0, new Point(0, 2), 1.0);
+        verify(locationCalculator, times(4)).calculateLocation(any(), anyDouble(), any(), anyDouble(), any(), anyDouble());
+    }
+
+    @Test
+    public void testRepeatedTopSecretRequestsAreServedFromCache() {
+        List<SpaceShipInfoDTO> spaceShipInfo = Arrays.asList(
+                new SpaceShipInfoDTO("kenobi", 1.0, List.of("this", "")),
+                new SpaceShipInfoDTO("skywalker", 1.0, List.of("", "is")),
+                new SpaceShipInfoDTO("sato", 1.0, List.of("this", ""))
+        );
+        when(satelliteRepository.findAllByNameIn(Set.of("kenobi", "skywalker", "sato")))
+            .thenReturn(Arrays.asList(
+                new Satellite("kenobi", new Point(1, 0)),
+                new Satellite("skywalker", new Point(-1, 0)),
+                new Satellite("sato", new Point(0, 1))
+            ));
+        when(locationCalculator.calculateLocation(any(), anyDouble(), any(), anyDouble(), any(), anyDouble()))
+            .thenReturn(new Point(0, 0));
+        when(messageDecoder.decodeMessage(any())).thenReturn("this is");
+
+        translationService.returnTopSecretResponse(spaceShipInfo);
+        translationService.returnTopSecretResponse(List.copyOf(spaceShipInfo));
+
+        verify(locationCalculator, times(1)).calculateLocation(any(), anyDouble(), any(), anyDouble(), any(), anyDouble());
+        verify(messageDecoder, times(1)).decodeMessage(any());
+
+        satelliteRegistry.save(new Satellite("sato", new Point(0, 2)));
+        translationService.returnTopSecretResponse(spaceShipInfo);
+
+        verify(locationCalculator).calculateLocation(
+                new Point(1, 0), 1.0, new Point(-1, 0), 1.0, new Point(0, 2), 1.0);
+        verify(locationCalculator, times(2)).calculateLocation(any(), anyDouble(), any(), anyDouble(), any(), anyDouble());
+    }
+
+    @Test
+    public void testEveryTopSecretResponseIsRecordedInHistory() {
+        List<SpaceShipInfoDTO> spaceShipInfo = Arrays.asList(
+                new SpaceShipInfoDTO("kenobi", 1.0, List.of("this", "")),
+                new SpaceShipInfoDTO("skywalker", 1.0, List.of("", "is")),
+                new SpaceShipInfoDTO("sato", 1.0, List.of("this", ""))
+        );
+        when(satelliteRepository.findAllByNameIn(Set.of("kenobi", "skywalker", "sato")))
+            .thenReturn(Arrays.asList(
+                new Satellite("kenobi", new Point(1, 0)),
+                new Satellite("skywalker", new Point(-1, 0)),
+                new Satellite("sato", new Point(0, 1))
+            ));
+        when(locationCalculator.calculateLocation(any(), anyDouble(), any(), anyDouble(), any(), anyDouble()))
+            .thenReturn(new Point(0, 0));
+        when(messageDecoder.decodeMessage(any())).thenReturn("this is");
+
+        TopSecretResponseDTO first = translationService.returnTopSecretResponse(spaceShipInfo);
+        TopSecretResponseDTO second = translationService.returnTopSecretResponse(spaceShipInfo);
+        fixHistoryRecorder.flush();
+
+        assertEquals(2, fixHistory.size());
+        assertSame(spaceShipInfo, fixHistory.get(0).getSatellites());
+        assertSame(first, fixHistory.get(0).getResponse());
+        assertSame(second, fixHistory.get(1).getResponse());
+    }
+
+    @Test
+    public void testReturnSplitTopSecretResponseWithMissingDistance() {
+        when(satelliteRepository.findAllByNameIn(Set.of("kenobi", "skywalker", "sato")))
+            .thenReturn(Arrays.asList(
+                new Satellite("kenobi", new Point(1, 0)),
+                new Satellite("skywalker", new Point(-1, 0), 1.0, List.of("is")),
+                new Satellite("sato", new Point(0, 1), 1.0, List.of("a"))
+            ));
+
+        assertThrows(IllegalArgumentException.class, () -> translationService.returnSplitTopSecretResponse());
+    }
+
+    @Test
+    public void testSessionsAreSolvedIndependently() {
+        when(satelliteRepository.findByName("kenobi")).thenReturn(Optional.of(new Satellite("kenobi", new Point(1, 0))));
+        when(satelliteRepository.findByName("skywalker")).thenReturn(Optional.of(new Satellite("skywalker", new Point(-1, 0))));
+        when(satelliteRepository.findByName("sato")).thenReturn(Optional.of(new Satellite("sato", new Point(0, 1))));
+        when(satelliteRepository.findAllByNameIn(Set.of("kenobi", "skywalker", "sato")))
+            .thenReturn(Arrays.asList(
+                new Satellite("kenobi", new Point(1, 0)),
+                new Satellite("skywalker", new Point(-1, 0)),
+                new Satellite("sato", new Point(0, 1))
+            ));
+        when(locationCalculator.calculateLocation(
+                new Point(1, 0), 1.0,
+                new Point(-1, 0), 1.0,
+                new Point(0, 1), 1.0)
+        ).thenReturn(new Point(0, 0));
+        when(messageDecoder.decodeMessage(any())).thenReturn("this is a message");
+
+        translationService.updateSessionSatelliteInfo("ship-1", "kenobi", new SpaceShipInfoDTO("kenobi", 1.0, List.of("this")));
+        translationService.updateSessionSatelliteInfo("ship-2", "kenobi", new SpaceShipInfoDTO("kenobi", 1.0, List.of("this")));
+        translationService.updateSessionSatelliteInfo("ship-1", "skywalker", new SpaceShipInfoDTO("skywalker", 1.0, List.of("is")));
+        translationService.updateSessionSatelliteInfo("ship-1", "sato", new SpaceShipInfoDTO("sato", 1.0, List.of("a")));
+
+        TopSecretResponseDTO response = translationService.returnSessionTopSecretResponse("ship-1");
+
+        assertEquals(new Point(0, 0), response.getPosition());
+        assertEquals("this is a message", response.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> translationService.returnSessionTopSecretResponse("ship-2"));
+        assertThrows(SessionNotFoundException.class, () -> translationService.returnSessionTopSecretResponse("ship-3"));
+    }
+}
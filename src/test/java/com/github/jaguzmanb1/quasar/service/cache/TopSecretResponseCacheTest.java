@@ -0,0 +1,88 @@
+package com.github.jaguzmanb1.quasar.service.cache;
+
+import com.github.jaguzmanb1.quasar.dto.SpaceShipInfoDTO;
+import com.github.jaguzmanb1.quasar.dto.TopSecretResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TopSecretResponseCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final TopSecretResponseDTO response = new TopSecretResponseDTO(new Point(1, 2), "este es un mensaje");
+
+    @Test
+    public void testEquivalentRequestsShareTheSameKey() {
+        TopSecretResponseCache.Key key = TopSecretResponseCache.keyOf(request(100.0, -0.0));
+
+        assertEquals(key, TopSecretResponseCache.keyOf(request(100.0, 0.0)));
+        assertEquals(key.hashCode(), TopSecretResponseCache.keyOf(request(100.0, 0.0)).hashCode());
+        assertNotEquals(key, TopSecretResponseCache.keyOf(request(100.5, 0.0)));
+        assertNotEquals(key, TopSecretResponseCache.keyOf(List.of(
+                new SpaceShipInfoDTO("skywalker", 0.0, List.of("", "es")),
+                new SpaceShipInfoDTO("kenobi", 100.0, List.of("este", "")))));
+    }
+
+    @Test
+    public void testResponsesExpireAfterTtl() {
+        TopSecretResponseCache cache = new TopSecretResponseCache(10, Duration.ofSeconds(60), now::get);
+        TopSecretResponseCache.Key key = TopSecretResponseCache.keyOf(request(100.0, 0.0));
+        cache.put(key, 1, response);
+
+        now.set(Duration.ofSeconds(59).toNanos());
+        assertSame(response, cache.get(key, 1));
+
+        now.set(Duration.ofSeconds(60).toNanos());
+        assertNull(cache.get(key, 1));
+        assertEquals(0.5, cache.hitRatio());
+    }
+
+    @Test
+    public void testResponsesAreStaleWhenPositionsChange() {
+        TopSecretResponseCache cache = new TopSecretResponseCache(10, Duration.ofSeconds(60), now::get);
+        TopSecretResponseCache.Key key = TopSecretResponseCache.keyOf(request(100.0, 0.0));
+        cache.put(key, 1, response);
+
+        assertNull(cache.get(key, 2));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedResponseIsEvictedWhenFull() {
+        TopSecretResponseCache cache = new TopSecretResponseCache(2, Duration.ofSeconds(60), now::get);
+        TopSecretResponseCache.Key first = TopSecretResponseCache.keyOf(request(1.0, 0.0));
+        TopSecretResponseCache.Key second = TopSecretResponseCache.keyOf(request(2.0, 0.0));
+        TopSecretResponseCache.Key third = TopSecretResponseCache.keyOf(request(3.0, 0.0));
+
+        cache.put(first, 1, response);
+        cache.put(second, 1, response);
+        cache.get(first, 1);
+        cache.put(third, 1, response);
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(first, 1));
+        assertNull(cache.get(second, 1));
+        assertNotNull(cache.get(third, 1));
+    }
+
+    @Test
+    public void testDisabledCacheStoresNothing() {
+        TopSecretResponseCache cache = new TopSecretResponseCache(0, Duration.ofSeconds(60), now::get);
+        TopSecretResponseCache.Key key = TopSecretResponseCache.keyOf(request(100.0, 0.0));
+        cache.put(key, 1, response);
+
+        assertNull(cache.get(key, 1));
+        assertEquals(0, cache.size());
+    }
+
+    private static List<SpaceShipInfoDTO> request(double kenobiDistance, double skywalkerDistance) {
+        return List.of(
+                new SpaceShipInfoDTO("kenobi", kenobiDistance, List.of("este", "")),
+                new SpaceShipInfoDTO("skywalker", skywalkerDistance, List.of("", "es")));
+    }
+}
@@ -0,0 +1,134 @@
+package com.github.jaguzmanb1.quasar.service.history;
+
+import com.github.jaguzmanb1.quasar.dto.SpaceShipInfoDTO;
+import com.github.jaguzmanb1.quasar.dto.TopSecretResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FixHistoryRecorderTest {
+
+    private static final List<SpaceShipInfoDTO> SATELLITES = List.of(
+            new SpaceShipInfoDTO("kenobi", 1.0, List.of("este")),
+            new SpaceShipInfoDTO("skywalker", 1.0, List.of("es")),
+            new SpaceShipInfoDTO("sato", 1.0, List.of("un")));
+
+    private final List<List<FixHistoryRecord>> batches = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testFullBatchesAreWrittenWithoutWaitingForTheInterval() throws Exception {
+        CountDownLatch written = new CountDownLatch(2);
+        FixHistoryRecorder recorder = new FixHistoryRecorder(records -> {
+            batches.add(new ArrayList<>(records));
+            written.countDown();
+        }, 100, 5, Duration.ofMinutes(1), Duration.ZERO, Thread::new);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(recorder.record(SATELLITES, response(i)));
+        }
+        recorder.start();
+
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+        assertEquals(5, batches.get(0).size());
+        assertEquals(5, batches.get(1).size());
+        assertEquals(0, batches.get(0).get(0).getResponse().getPosition().x);
+        assertEquals(9, batches.get(1).get(4).getResponse().getPosition().x);
+        recorder.close();
+    }
+
+    @Test
+    public void testPartialBatchIsWrittenAfterTheFlushInterval() throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        FixHistoryRecorder recorder = new FixHistoryRecorder(records -> {
+            batches.add(new ArrayList<>(records));
+            written.countDown();
+        }, 100, 50, Duration.ofMillis(20), Duration.ZERO, Thread::new);
+        recorder.start();
+
+        recorder.record(SATELLITES, response(1));
+        recorder.record(SATELLITES, response(2));
+
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+        assertEquals(2, batches.stream().mapToInt(List::size).sum());
+        recorder.close();
+    }
+
+    @Test
+    public void testFixesAreDroppedWhenTheQueueStaysFull() throws Exception {
+        FixHistoryRecorder recorder = new FixHistoryRecorder(batches::add, 2, 10, Duration.ofSeconds(1),
+                Duration.ofMillis(10), Thread::new);
+
+        assertTrue(recorder.record(SATELLITES, response(1)));
+        assertTrue(recorder.record(SATELLITES, response(2)));
+        assertFalse(recorder.record(SATELLITES, response(3)));
+        assertEquals(2, recorder.size());
+        recorder.close();
+    }
+
+    @Test
+    public void testCloseWritesQueuedFixesAndRejectsNewOnes() throws Exception {
+        FixHistoryRecorder recorder = new FixHistoryRecorder(records -> batches.add(new ArrayList<>(records)),
+                100, 4, Duration.ofMinutes(1), Duration.ZERO, Thread::new);
+        for (int i = 0; i < 10; i++) {
+            recorder.record(SATELLITES, response(i));
+        }
+
+        recorder.close();
+
+        assertEquals(List.of(4, 4, 2), batches.stream().map(List::size).toList());
+        assertFalse(recorder.record(SATELLITES, response(10)));
+        assertEquals(0, recorder.size());
+    }
+
+    @Test
+    public void testCloseStopsAWaitingWriterWithoutWaitingForTheInterval() throws Exception {
+        List<Thread> writers = new CopyOnWriteArrayList<>();
+        FixHistoryRecorder recorder = new FixHistoryRecorder(records -> {
+            writers.add(Thread.currentThread());
+            batches.add(new ArrayList<>(records));
+        }, 100, 50, Duration.ofMinutes(1), Duration.ZERO, runnable -> new Thread(runnable, "fix-history-writer"));
+        recorder.start();
+        recorder.record(SATELLITES, response(1));
+        recorder.record(SATELLITES, response(2));
+
+        long start = System.nanoTime();
+        recorder.close();
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertEquals(2, batches.stream().mapToInt(List::size).sum());
+        assertTrue(writers.stream().allMatch(thread -> thread.getName().equals("fix-history-writer")));
+        assertEquals(0, recorder.size());
+    }
+
+    @Test
+    public void testFailedBatchDoesNotStopTheWriter() throws Exception {
+        FixHistoryRecorder recorder = new FixHistoryRecorder(records -> {
+            if (batches.isEmpty()) {
+                batches.add(List.of());
+                throw new IllegalStateException("database is locked");
+            }
+            batches.add(new ArrayList<>(records));
+        }, 100, 1, Duration.ofMinutes(1), Duration.ZERO, Thread::new);
+        recorder.record(SATELLITES, response(1));
+        recorder.record(SATELLITES, response(2));
+
+        recorder.close();
+
+        assertEquals(2, batches.size());
+        assertEquals(2, batches.get(1).get(0).getResponse().getPosition().x);
+    }
+
+    private static TopSecretResponseDTO response(int x) {
+        return new TopSecretResponseDTO(new Point(x, 0), "este es un mensaje");
+    }
+}
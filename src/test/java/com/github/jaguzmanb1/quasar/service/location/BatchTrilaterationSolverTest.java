@@ -0,0 +1,63 @@
+package com.github.jaguzmanb1.quasar.service.location;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchTrilaterationSolverTest {
+
+    private final ConstellationGeometry geometry = ConstellationGeometry.of(-500, -200, 100, -100, 500, 100);
+
+    @Test
+    public void testVectorKernelMatchesScalarKernel() {
+        // Odd count so that the scalar tail of the vector loop is exercised as well
+        int count = 1003;
+        double[] r1 = new double[count];
+        double[] r2 = new double[count];
+        double[] r3 = new double[count];
+        Random random = new Random(42);
+        for (int k = 0; k < count; k++) {
+            double x = random.nextInt(2000) - 1000;
+            double y = random.nextInt(2000) - 1000;
+            r1[k] = Math.hypot(x + 500, y + 200);
+            r2[k] = Math.hypot(x - 100, y + 100);
+            r3[k] = Math.hypot(x - 500, y - 100);
+            if (k % 7 == 0) {
+                r3[k] /= 10;
+            }
+        }
+
+        double[] scalarX = new double[count];
+        double[] scalarY = new double[count];
+        double[] vectorX = new double[count];
+        double[] vectorY = new double[count];
+        int scalarSolved = geometry.solveAll(r1, r2, r3, scalarX, scalarY, count);
+        int vectorSolved = VectorTrilaterationKernel.solveAll(geometry, r1, r2, r3, vectorX, vectorY, count);
+
+        assertEquals(scalarSolved, vectorSolved);
+        assertTrue(scalarSolved < count);
+        assertArrayEquals(scalarX, vectorX);
+        assertArrayEquals(scalarY, vectorY);
+    }
+
+    @Test
+    public void testSolveAllMatchesTrilaterationCalculator() {
+        Point target = new Point(-100, 75);
+        double[] r1 = {target.distance(-500, -200), 100};
+        double[] r2 = {target.distance(100, -100), 100};
+        double[] r3 = {target.distance(500, 100), 100};
+        double[] outX = new double[2];
+        double[] outY = new double[2];
+
+        int solved = BatchTrilaterationSolver.solveAll(geometry, r1, r2, r3, outX, outY, 2);
+
+        assertEquals(1, solved);
+        assertEquals(-100, Math.round(outX[0]));
+        assertEquals(75, Math.round(outY[0]));
+        assertTrue(Double.isNaN(outX[1]));
+        assertTrue(Double.isNaN(outY[1]));
+    }
+}
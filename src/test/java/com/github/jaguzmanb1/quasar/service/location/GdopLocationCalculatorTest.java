@@ -0,0 +1,49 @@
+package com.github.jaguzmanb1.quasar.service.location;
+
+import com.github.jaguzmanb1.quasar.exception.InvalidIntersectionException;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GdopLocationCalculatorTest {
+
+    private final GdopLocationCalculator calculator =
+            new GdopLocationCalculator(new TrilaterationCalculator(), new GdopTripleSelector(10, 3));
+
+    @Test
+    public void testCollinearLeadingSatellitesAreSkipped() {
+        double[] xs = {-500, 0, 500, 100};
+        double[] ys = {0, 0, 0, 600};
+        double[] distances = distances(xs, ys, new Point(-100, 75));
+
+        assertThrows(InvalidIntersectionException.class,
+                () -> new TrilaterationCalculator().estimateLocation(xs, ys, distances, 4));
+
+        LocationEstimate estimate = calculator.estimateLocation(xs, ys, distances, 4);
+        assertEquals(-100.0, estimate.getX());
+        assertEquals(75.0, estimate.getY());
+        assertEquals(0.0, estimate.getResidual(), 1e-6);
+    }
+
+    @Test
+    public void testCollinearConstellationIsDegenerate() {
+        double[] xs = {0, 100, 200, 300};
+        double[] ys = {0, 0, 0, 0};
+        double[] distances = {100, 100, 100, 100};
+
+        InvalidIntersectionException ex = assertThrows(InvalidIntersectionException.class,
+                () -> calculator.estimateLocation(xs, ys, distances, 4));
+        assertEquals(InvalidIntersectionException.Reason.DEGENERATE_GEOMETRY, ex.getReason());
+    }
+
+    private static double[] distances(double[] xs, double[] ys, Point target) {
+        double[] distances = new double[xs.length];
+        for (int i = 0; i < xs.length; i++) {
+            distances[i] = Math.hypot(xs[i] - target.x, ys[i] - target.y);
+        }
+        return distances;
+    }
+}
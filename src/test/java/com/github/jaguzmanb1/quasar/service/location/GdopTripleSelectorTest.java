@@ -0,0 +1,51 @@
+package com.github.jaguzmanb1.quasar.service.location;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class GdopTripleSelectorTest {
+
+    @Test
+    public void testNearCollinearTriplesAreDiscarded() {
+        GdopTripleSelector selector = new GdopTripleSelector(10, 4);
+        double[] xs = {-500, 0, 500, 0};
+        double[] ys = {0, 1, 0, 600};
+
+        int[][] ranking = selector.select(xs, ys, 4);
+
+        assertEquals(3, ranking.length);
+        assertArrayEquals(new int[]{0, 2, 3}, ranking[0]);
+        for (int[] triple : ranking) {
+            assertEquals(3, triple[2]);
+        }
+    }
+
+    @Test
+    public void testCollinearConstellationHasNoCandidates() {
+        GdopTripleSelector selector = new GdopTripleSelector(10, 3);
+        double[] xs = {0, 100, 200, 300};
+        double[] ys = {0, 50, 100, 150};
+
+        assertEquals(0, selector.select(xs, ys, 4).length);
+    }
+
+    @Test
+    public void testRankingIsCachedPerConstellation() {
+        GdopTripleSelector selector = new GdopTripleSelector(1, 3);
+        double[] xs = {-500, 100, 500, 0, 999};
+        double[] ys = {-200, -100, 100, 600, 999};
+
+        int[][] first = selector.select(xs, ys, 4);
+        assertSame(first, selector.select(xs.clone(), ys.clone(), 4));
+        assertEquals(1, selector.getMisses());
+        assertEquals(1, selector.getHits());
+
+        xs[3] = 50;
+        selector.select(xs, ys, 4);
+        assertEquals(2, selector.getMisses());
+        assertEquals(1, selector.size());
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.jaguzmanb1.quasar.service.location;
+
+import com.github.jaguzmanb1.quasar.exception.InvalidIntersectionException;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LeastSquaresMultilaterationCalculatorTest {
+
+    private final LeastSquaresMultilaterationCalculator calculator =
+            new LeastSquaresMultilaterationCalculator(20, 1e-6, 10.0);
+
+    @Test
+    public void testCalculateLocationValidInput() {
+        Point P1 = new Point(1, 0);
+        Point P2 = new Point(-1, 0);
+        Point P3 = new Point(0, 1);
+
+        Point actualLocation = calculator.calculateLocation(P1, 1, P2, 1, P3, 1);
+
+        assertEquals(new Point(0, 0), actualLocation);
+    }
+
+    @Test
+    public void testCalculateLocationWithNoisyDistances() {
+        Point P1 = new Point(-500, -200);
+        Point P2 = new Point(100, -100);
+        Point P3 = new Point(500, 100);
+        Point target = new Point(-100, 75);
+
+        // Circles that no longer meet at a single point
+        double r1 = target.distance(P1) + 2.0;
+        double r2 = target.distance(P2) - 1.5;
+        double r3 = target.distance(P3) + 1.0;
+
+        Point actualLocation = calculator.calculateLocation(P1, r1, P2, r2, P3, r3);
+
+        assertEquals(target.getX(), actualLocation.getX(), 5.0);
+        assertEquals(target.getY(), actualLocation.getY(), 5.0);
+    }
+
+    @Test
+    public void testEstimateLocationWithMoreThanThreeSatellites() {
+        double[] xs = {-500, 100, 500, 0, -300};
+        double[] ys = {-200, -100, 100, 600, 400};
+        double[] distances = new double[xs.length];
+        for (int k = 0; k < xs.length; k++) {
+            distances[k] = Math.hypot(-100 - xs[k], 75 - ys[k]) + (k % 2 == 0 ? 0.5 : -0.5);
+        }
+
+        LocationEstimate estimate = calculator.estimateLocation(xs, ys, distances, xs.length);
+
+        assertEquals(-100, estimate.getX(), 1.0);
+        assertEquals(75, estimate.getY(), 1.0);
+        assertTrue(estimate.getResidual() < 1.0);
+    }
+
+    @Test
+    public void testEstimateLocationWithCollinearSatellites() {
+        double[] xs = {0, 100, 200, 300};
+        double[] ys = {0, 0, 0, 0};
+        double[] distances = {100, 100, 100, 100};
+
+        assertThrows(InvalidIntersectionException.class,
+                () -> calculator.estimateLocation(xs, ys, distances, xs.length));
+    }
+
+    @Test
+    public void testEstimateLocationWithInconsistentDistances() {
+        double[] xs = {-500, 100, 500};
+        double[] ys = {-200, -100, 100};
+        double[] distances = {100, 100, 100};
+
+        assertThrows(InvalidIntersectionException.class,
+                () -> calculator.estimateLocation(xs, ys, distances, xs.length));
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.jaguzmanb1.quasar.service.location;
+
+import com.github.jaguzmanb1.quasar.exception.InvalidIntersectionException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimedLocationCalculatorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TimedLocationCalculator calculator =
+            new TimedLocationCalculator(new TrilaterationCalculator(), meterRegistry);
+
+    @Test
+    public void testCalculationsAreTimed() {
+        Point location = calculator.calculateLocation(
+                new Point(1, 0), 1, new Point(-1, 0), 1, new Point(0, 1), 1);
+
+        assertEquals(new Point(0, 0), location);
+        assertEquals(1, meterRegistry.get("quasar.location.calculation")
+                .tag("calculator", "TrilaterationCalculator")
+                .tag("points", "3")
+                .timer().count());
+    }
+
+    @Test
+    public void testFailuresAreCountedByReason() {
+        assertThrows(InvalidIntersectionException.class, () -> calculator.calculateLocation(
+                new Point(-500, -200), 100, new Point(100, -100), 100, new Point(500, 100), 100));
+
+        assertEquals(1.0, meterRegistry.get("quasar.location.failures")
+                .tag("reason", "no_intersection")
+                .counter().count());
+        assertEquals(0.0, meterRegistry.get("quasar.location.failures")
+                .tag("reason", "residual_too_large")
+                .counter().count());
+        assertEquals(1, meterRegistry.get("quasar.location.calculation").tag("points", "3").timer().count());
+    }
+}
@@ -39,4 +39,54 @@ public class TrilaterationCalculatorTest {
             calculator.calculateLocation(P1, r1, P2, r2, P3, r3);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCalculateLocationWithCollinearSatellites() {
+        InvalidIntersectionException ex = assertThrows(InvalidIntersectionException.class, () ->
+                calculator.calculateLocation(new Point(0, 0), 5, new Point(10, 0), 5, new Point(20, 0), 15));
+
+        assertEquals(InvalidIntersectionException.Reason.DEGENERATE_GEOMETRY, ex.getReason());
+    }
+
+    @Test
+    public void testCalculateLocationAfterSatellitesMove() {
+        Point target = new Point(-100, 75);
+        Point kenobi = new Point(-500, -200);
+        Point skywalker = new Point(100, -100);
+        Point sato = new Point(500, 100);
+        Point movedSato = new Point(300, 400);
+
+        assertEquals(target, calculator.calculateLocation(
+                kenobi, target.distance(kenobi), skywalker, target.distance(skywalker), sato, target.distance(sato)));
+        assertEquals(target, calculator.calculateLocation(
+                kenobi, target.distance(kenobi), skywalker, target.distance(skywalker),
+                movedSato, target.distance(movedSato)));
+        assertEquals(target, calculator.calculateLocation(
+                kenobi, target.distance(kenobi), skywalker, target.distance(skywalker), sato, target.distance(sato)));
+    }
+
+    @Test
+    public void testGeometriesAreKeptPerConstellationUpToTheLimit() {
+        TrilaterationCalculator bounded = new TrilaterationCalculator(2);
+        Point target = new Point(-100, 75);
+        Point[][] constellations = {
+                {new Point(-500, -200), new Point(100, -100), new Point(500, 100)},
+                {new Point(500, 100), new Point(-500, -200), new Point(100, -100)},
+                {new Point(-500, -200), new Point(100, -100), new Point(0, 400)}
+        };
+
+        for (int round = 0; round < 3; round++) {
+            for (int k = 0; k < 2; k++) {
+                Point[] c = constellations[k];
+                assertEquals(target, bounded.calculateLocation(c[0], target.distance(c[0]),
+                        c[1], target.distance(c[1]), c[2], target.distance(c[2])));
+            }
+        }
+        assertEquals(2, bounded.size());
+
+        Point[] c = constellations[2];
+        assertEquals(target, bounded.calculateLocation(c[0], target.distance(c[0]),
+                c[1], target.distance(c[1]), c[2], target.distance(c[2])));
+        assertEquals(2, bounded.size());
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.jaguzmanb1.quasar.service.messages;
+
+import com.github.jaguzmanb1.quasar.exception.InvalidMessageException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AlignedMessageDecoderTest {
+
+    private final AlignedMessageDecoder rightDecoder = new AlignedMessageDecoder(AlignedMessageDecoder.Alignment.RIGHT);
+    private final AlignedMessageDecoder leftDecoder = new AlignedMessageDecoder(AlignedMessageDecoder.Alignment.LEFT);
+
+    @Test
+    public void testDecodeMessageWithLeadingGapOffsets() {
+        List<List<String>> messages = Arrays.asList(
+                Arrays.asList("", "", "este", "", "un", ""),
+                Arrays.asList("", "es", "", "mensaje"),
+                Arrays.asList("", "este", "", "", "mensaje")
+        );
+
+        assertEquals("este es un mensaje", rightDecoder.decodeMessage(messages));
+    }
+
+    @Test
+    public void testDecodeMessageWithAlignedInput() {
+        List<List<String>> messages = Arrays.asList(
+                Arrays.asList("this", "", "", "message"),
+                Arrays.asList("", "is", "", ""),
+                Arrays.asList("", "", "a", "")
+        );
+
+        assertEquals("this is a message", rightDecoder.decodeMessage(messages));
+        assertEquals("this is a message", leftDecoder.decodeMessage(messages));
+    }
+
+    @Test
+    public void testDecodeMessageWithRepeatedWords() {
+        List<List<String>> messages = Arrays.asList(
+                Arrays.asList("this", "is", "", "message"),
+                Arrays.asList("this", "is", "a", "")
+        );
+
+        assertEquals("this is a message", rightDecoder.decodeMessage(messages));
+    }
+
+    @Test
+    public void testDecodeMessageWithConflictingWords() {
+        List<List<String>> messages = Arrays.asList(
+                Arrays.asList("this", "is", "", ""),
+                Arrays.asList("", "was", "a", "")
+        );
+
+        assertThrows(InvalidMessageException.class, () -> rightDecoder.decodeMessage(messages));
+    }
+
+    @Test
+    public void testDecodeMessageWithLeftAlignmentDetectsMisalignedFragments() {
+        List<List<String>> messages = Arrays.asList(
+                Arrays.asList("este", "", "mensaje"),
+                Arrays.asList("", "", "es", "")
+        );
+
+        assertThrows(InvalidMessageException.class, () -> leftDecoder.decodeMessage(messages));
+        assertEquals("este es mensaje", rightDecoder.decodeMessage(messages));
+    }
+
+    @Test
+    public void testDecodeMessageWithEmptyList() {
+        assertEquals("", rightDecoder.decodeMessage(Collections.emptyList()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.jaguzmanb1.quasar.service.messages;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LinearMessageDecoderTest {
+
+    private final LinearMessageDecoder decoder = new LinearMessageDecoder();
+
+    @Test
+    public void testDecodeMessageValidInput() {
+        List<List<String>> messages = Arrays.asList(
+                Arrays.asList("this", "", "", "message"),
+                Arrays.asList("", "is", "", ""),
+                Arrays.asList("", "", "a", "")
+        );
+
+        assertEquals("this is a message", decoder.decodeMessage(messages));
+    }
+
+    @Test
+    public void testDecodeMessageWithEmptyInputs() {
+        assertEquals("", decoder.decodeMessage(Collections.emptyList()));
+        assertEquals("", decoder.decodeMessage(Arrays.asList(
+                Arrays.asList("", ""),
+                Arrays.asList("", "", "")
+        )));
+    }
+
+    @Test
+    public void testDecodeMessageWithNullSourcesAndWords() {
+        List<List<String>> messages = Arrays.asList(
+                null,
+                Arrays.asList("this", null, "a"),
+                Arrays.asList("", "is", "")
+        );
+
+        assertEquals("this is a", decoder.decodeMessage(messages));
+    }
+
+    @Test
+    public void testDecodeMessageMatchesDefaultDecoder() {
+        DefaultMessageDecoder defaultDecoder = new DefaultMessageDecoder();
+        Random random = new Random(7);
+
+        for (int round = 0; round < 200; round++) {
+            List<List<String>> messages = new ArrayList<>();
+            int senders = 1 + random.nextInt(5);
+            for (int s = 0; s < senders; s++) {
+                List<String> message = new ArrayList<>();
+                int length = random.nextInt(8);
+                for (int w = 0; w < length; w++) {
+                    message.add(random.nextBoolean() ? "" : "w" + random.nextInt(4));
+                }
+                messages.add(message);
+            }
+
+            assertEquals(defaultDecoder.decodeMessage(messages), decoder.decodeMessage(messages));
+        }
+    }
+}
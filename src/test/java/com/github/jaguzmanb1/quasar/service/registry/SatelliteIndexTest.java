@@ -0,0 +1,76 @@
+package com.github.jaguzmanb1.quasar.service.registry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SatelliteIndexTest {
+
+    @Test
+    public void testRangeAndRegionQueriesMatchAFullScan() {
+        Random random = new Random(42);
+        int count = 2000;
+        String[] names = new String[count];
+        int[] xs = new int[count];
+        int[] ys = new int[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = "sat-" + i;
+            xs[i] = random.nextInt(2001) - 1000;
+            ys[i] = random.nextInt(2001) - 1000;
+        }
+        SatelliteIndex index = SatelliteIndex.build(names, xs, ys);
+
+        for (int query = 0; query < 200; query++) {
+            double x = random.nextInt(2001) - 1000;
+            double y = random.nextInt(2001) - 1000;
+            double radius = random.nextInt(300);
+
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                if (Math.hypot(xs[i] - x, ys[i] - y) <= radius) {
+                    expected.add(names[i]);
+                }
+            }
+            assertSameNames(expected, index.withinRange(x, y, radius));
+
+            expected.clear();
+            for (int i = 0; i < count; i++) {
+                if (Math.abs(xs[i] - x) <= radius && Math.abs(ys[i] - y) <= radius) {
+                    expected.add(names[i]);
+                }
+            }
+            assertSameNames(expected, index.withinRegion(x - radius, y - radius, x + radius, y + radius));
+        }
+    }
+
+    @Test
+    public void testAlignedSatellitesAreIndexed() {
+        int count = 1000;
+        String[] names = new String[count];
+        int[] xs = new int[count];
+        int[] ys = new int[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = "sat-" + i;
+            xs[i] = 100;
+            ys[i] = i % 10;
+        }
+        SatelliteIndex index = SatelliteIndex.build(names, xs, ys);
+
+        assertEquals(count, index.size());
+        assertEquals(100, index.withinRange(100, 0, 0).size());
+        assertEquals(count, index.withinRegion(100, 0, 100, 9).size());
+        assertTrue(index.withinRange(0, 0, 99).isEmpty());
+    }
+
+    private static void assertSameNames(List<String> expected, List<String> actual) {
+        List<String> sorted = new ArrayList<>(actual);
+        sorted.sort(null);
+        expected.sort(null);
+        assertEquals(expected, sorted);
+    }
+}
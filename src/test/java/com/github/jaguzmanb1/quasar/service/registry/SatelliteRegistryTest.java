@@ -0,0 +1,135 @@
+package com.github.jaguzmanb1.quasar.service.registry;
+
+import com.github.jaguzmanb1.quasar.entity.Satellite;
+import com.github.jaguzmanb1.quasar.repository.SatelliteRepositoryInterface;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.awt.*;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SatelliteRegistryTest {
+
+    @Mock
+    private SatelliteRepositoryInterface satelliteRepository;
+
+    private SatelliteRegistry satelliteRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        satelliteRegistry = new SatelliteRegistry(satelliteRepository);
+    }
+
+    @Test
+    public void testLoadingOnMissKeepsThePositionsVersion() {
+        when(satelliteRepository.findAllByNameIn(Set.of("kenobi", "sato")))
+            .thenReturn(List.of(
+                new Satellite("kenobi", new Point(-500, -200)),
+                new Satellite("sato", new Point(500, 100))
+            ));
+        long version = satelliteRegistry.getPositionsVersion();
+
+        satelliteRegistry.findAllByNameIn(Set.of("kenobi", "sato"));
+
+        assertEquals(version, satelliteRegistry.getPositionsVersion());
+        assertEquals(0, satelliteRegistry.getHits());
+        satelliteRegistry.findAllByNameIn(Set.of("kenobi", "sato"));
+        assertEquals(1, satelliteRegistry.getHits());
+    }
+
+    @Test
+    public void testSavingANewOrMovedSatelliteChangesThePositionsVersion() {
+        long version = satelliteRegistry.getPositionsVersion();
+        satelliteRegistry.save(new Satellite("kenobi", new Point(-500, -200)));
+        assertNotEquals(version, satelliteRegistry.getPositionsVersion());
+
+        version = satelliteRegistry.getPositionsVersion();
+        satelliteRegistry.save(new Satellite("kenobi", new Point(-500, -200), 100.0, List.of("este")));
+        assertEquals(version, satelliteRegistry.getPositionsVersion());
+
+        satelliteRegistry.save(new Satellite("kenobi", new Point(-400, -200)));
+        assertNotEquals(version, satelliteRegistry.getPositionsVersion());
+    }
+
+    @Test
+    public void testDeleteRemovesTheSatelliteAndChangesThePositionsVersion() {
+        Satellite kenobi = new Satellite("kenobi", new Point(-500, -200));
+        when(satelliteRepository.findAll()).thenReturn(List.of(kenobi, new Satellite("sato", new Point(500, 100))));
+        when(satelliteRepository.findByName("kenobi")).thenReturn(Optional.of(kenobi));
+        satelliteRegistry.findAll();
+        long version = satelliteRegistry.getPositionsVersion();
+
+        assertTrue(satelliteRegistry.delete("kenobi"));
+
+        verify(satelliteRepository).delete(kenobi);
+        assertNotEquals(version, satelliteRegistry.getPositionsVersion());
+        assertEquals(List.of("sato"), names(satelliteRegistry.findAll()));
+        assertEquals(List.of(), names(satelliteRegistry.findWithinRange(-500, -200, 10)));
+    }
+
+    @Test
+    public void testDeleteOfUnknownSatelliteReturnsFalse() {
+        when(satelliteRepository.findByName("vader")).thenReturn(Optional.empty());
+
+        assertFalse(satelliteRegistry.delete("vader"));
+        verify(satelliteRepository, never()).delete(any());
+    }
+
+    @Test
+    public void testFindWithinRangeReturnsNearestFirstIncludingTheBoundary() {
+        when(satelliteRepository.findAll()).thenReturn(List.of(
+                new Satellite("kenobi", new Point(-500, -200)),
+                new Satellite("skywalker", new Point(100, -100)),
+                new Satellite("sato", new Point(500, 100))
+        ));
+
+        assertEquals(List.of("sato", "skywalker"), names(satelliteRegistry.findWithinRange(400, 100, 500)));
+        assertEquals(List.of("sato"), names(satelliteRegistry.findWithinRange(400, 100, 100)));
+        assertEquals(List.of(), names(satelliteRegistry.findWithinRange(0, 500, 10)));
+    }
+
+    @Test
+    public void testFindInRegionReturnsSatellitesInRegistrationOrder() {
+        when(satelliteRepository.findAll()).thenReturn(List.of(
+                new Satellite("sato", new Point(500, 100)),
+                new Satellite("kenobi", new Point(-500, -200)),
+                new Satellite("skywalker", new Point(100, -100))
+        ));
+
+        assertEquals(List.of("sato", "skywalker"), names(satelliteRegistry.findInRegion(100, -100, 500, 100)));
+        assertEquals(List.of("sato", "kenobi", "skywalker"),
+                names(satelliteRegistry.findInRegion(-500, -200, 500, 100)));
+    }
+
+    @Test
+    public void testMovedSatellitesAreFoundAtTheirNewPosition() {
+        when(satelliteRepository.findAll()).thenReturn(List.of(
+                new Satellite("kenobi", new Point(-500, -200)),
+                new Satellite("sato", new Point(500, 100))
+        ));
+        assertEquals(List.of("kenobi"), names(satelliteRegistry.findInRegion(-600, -300, -400, -100)));
+
+        satelliteRegistry.save(new Satellite("kenobi", new Point(0, 0)));
+
+        assertEquals(List.of(), names(satelliteRegistry.findInRegion(-600, -300, -400, -100)));
+        assertEquals(List.of("kenobi"), names(satelliteRegistry.findWithinRange(0, 0, 1)));
+    }
+
+    private static List<String> names(List<Satellite> satellites) {
+        return satellites.stream().map(Satellite::getName).toList();
+    }
+}
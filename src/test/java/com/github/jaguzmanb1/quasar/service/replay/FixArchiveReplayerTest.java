@@ -0,0 +1,153 @@
+package com.github.jaguzmanb1.quasar.service.replay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.jaguzmanb1.quasar.service.location.TrilaterationCalculator;
+import com.github.jaguzmanb1.quasar.service.messages.LinearMessageDecoder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FixArchiveReplayerTest {
+
+    private static final Point KENOBI = new Point(-500, -200);
+    private static final Point SKYWALKER = new Point(100, -100);
+    private static final Point SATO = new Point(500, 100);
+
+    @TempDir
+    private Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testRecordsAreSolvedInOrderAcrossChunks() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            lines.add(record(new Point(-100 + i, 75 - i)));
+        }
+        Path input = Files.write(directory.resolve("fixes.ndjson"), lines);
+        Path output = directory.resolve("results.ndjson");
+
+        ReplayReport report = replayer(4, 300, true).replay(input, output);
+
+        List<String> results = Files.readAllLines(output);
+        assertEquals(50, report.getRecords());
+        assertEquals(0, report.getFailures());
+        assertTrue(report.getChunks() > 1);
+        assertEquals(50, results.size());
+        for (int i = 0; i < 50; i++) {
+            Map<?, ?> result = objectMapper.readValue(results.get(i), Map.class);
+            Map<?, ?> position = (Map<?, ?>) result.get("position");
+            assertEquals(-100.0 + i, ((Number) position.get("x")).doubleValue());
+            assertEquals(75.0 - i, ((Number) position.get("y")).doubleValue());
+            assertEquals("este es un mensaje secreto", result.get("message"));
+        }
+    }
+
+    @Test
+    public void testInvalidRecordsAreReportedWithoutStoppingTheReplay() throws IOException {
+        String unknown = record(new Point(-100, 75)).replace("\"sato\"", "\"vader\"");
+        Path input = Files.writeString(directory.resolve("fixes.ndjson"),
+                record(new Point(-100, 75)) + "\r\n{not json\n\n" + unknown + "\n" + record(new Point(0, 0)));
+        Path output = directory.resolve("results.ndjson");
+
+        ReplayReport report = replayer(2, 1024, true).replay(input, output);
+
+        List<String> results = Files.readAllLines(output);
+        assertEquals(4, report.getRecords());
+        assertEquals(2, report.getFailures());
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).contains("\"message\":\"este es un mensaje secreto\""));
+        assertTrue(results.get(1).startsWith("{\"error\":\"Invalid record"));
+        assertEquals("{\"error\":\"Missing required satellites in database.\"}", results.get(2));
+        assertTrue(results.get(3).contains("\"x\":0.0"));
+        try (var files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void testIncompleteRecordsAreReportedWithoutStoppingTheReplay() throws IOException {
+        String noDistance = record(new Point(-100, 75)).replaceFirst("\"distance\": [^,]+,", "");
+        String noMessage = record(new Point(-100, 75)).replaceFirst(", \"message\": \\[[^\\]]*\\]", "");
+        String nullSatellite = "{\"satellites\": [null, null, null]}";
+        String noName = record(new Point(-100, 75)).replaceFirst("\"name\": \"kenobi\", ", "");
+        Path input = Files.writeString(directory.resolve("fixes.ndjson"), String.join("\n",
+                "null", noDistance, noMessage, nullSatellite, noName, record(new Point(0, 0))));
+        Path output = directory.resolve("results.ndjson");
+
+        ReplayReport report = replayer(2, 1024, true).replay(input, output);
+
+        List<String> results = Files.readAllLines(output);
+        assertEquals(6, report.getRecords());
+        assertEquals(5, report.getFailures());
+        assertEquals("{\"error\":\"Invalid record: expected a JSON object.\"}", results.get(0));
+        assertEquals("{\"error\":\"Satellite kenobi is missing distance data.\"}", results.get(1));
+        assertEquals("{\"error\":\"Satellite kenobi is missing message data.\"}", results.get(2));
+        assertEquals("{\"error\":\"Invalid record: satellite entries cannot be null.\"}", results.get(3));
+        assertEquals("{\"error\":\"Missing required satellites in database.\"}", results.get(4));
+        assertTrue(results.get(5).contains("\"x\":0.0"));
+    }
+
+    @Test
+    public void testBatchTrilaterationMatchesSolvingEachRecord() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            Point target = new Point(-300 + i % 600, 200 - i % 400);
+            String record = record(target);
+            if (i % 3 == 1) {
+                record = "{\"satellites\": ["
+                        + satellite("sato", target.distance(SATO), "\"este\", \"\", \"un\", \"\", \"\"") + ", "
+                        + satellite("kenobi", target.distance(KENOBI), "\"este\", \"\", \"\", \"mensaje\", \"\"") + ", "
+                        + satellite("skywalker", target.distance(SKYWALKER), "\"\", \"es\", \"\", \"\", \"secreto\"")
+                        + "]}";
+            } else if (i % 7 == 2) {
+                record = record.replaceFirst("\"distance\": [^,]+,", "\"distance\": 1.0,");
+            }
+            lines.add(record);
+        }
+        Path input = Files.write(directory.resolve("fixes.ndjson"), lines);
+        Path batched = directory.resolve("batched.ndjson");
+        Path single = directory.resolve("single.ndjson");
+
+        ReplayReport batchedReport = replayer(3, 64 * 1024, true).replay(input, batched);
+        ReplayReport singleReport = replayer(3, 64 * 1024, false).replay(input, single);
+
+        assertTrue(batchedReport.getFailures() > 0);
+        assertEquals(singleReport.getFailures(), batchedReport.getFailures());
+        assertEquals(Files.readAllLines(single), Files.readAllLines(batched));
+    }
+
+    private FixArchiveReplayer replayer(int parallelism, long chunkSize, boolean batchTrilateration) {
+        Map<String, Point> positions = new LinkedHashMap<>();
+        positions.put("kenobi", KENOBI);
+        positions.put("skywalker", SKYWALKER);
+        positions.put("sato", SATO);
+        return new FixArchiveReplayer(new TrilaterationCalculator(), new LinearMessageDecoder(), positions,
+                objectMapper, parallelism, chunkSize, batchTrilateration);
+    }
+
+    private static String record(Point target) {
+        return "{\"satellites\": ["
+                + satellite("kenobi", target.distance(KENOBI), "\"este\", \"\", \"\", \"mensaje\", \"\"") + ", "
+                + satellite("skywalker", target.distance(SKYWALKER), "\"\", \"es\", \"\", \"\", \"secreto\"") + ", "
+                + satellite("sato", target.distance(SATO), "\"este\", \"\", \"un\", \"\", \"\"")
+                + "]}";
+    }
+
+    private static String satellite(String name, double distance, String message) {
+        return String.format(Locale.ROOT, "{\"name\": \"%s\", \"distance\": %.6f, \"message\": [%s]}",
+                name, distance, message);
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.jaguzmanb1.quasar.service.split;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JournalSplitStatePersisterTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void testLatestReadingsAreReplayedOnReopen() throws Exception {
+        JournalSplitStatePersister persister = open(1000);
+        persister.persist(new SatelliteReading("kenobi", 100.0, List.of("este", "")));
+        persister.persist(new SatelliteReading("skywalker", 115.5, null));
+        persister.persist(new SatelliteReading("kenobi", 142.7, Arrays.asList("", null, "mensaje")));
+        persister.close();
+
+        Map<String, SatelliteReading> readings = byName(open(1000).load());
+
+        assertEquals(2, readings.size());
+        assertEquals(142.7, readings.get("kenobi").getDistance());
+        assertEquals(List.of("", "", "mensaje"), readings.get("kenobi").getMessage());
+        assertEquals(115.5, readings.get("skywalker").getDistance());
+        assertNull(readings.get("skywalker").getMessage());
+    }
+
+    @Test
+    public void testJournalIsCompactedOnceItGrowsPastTheThreshold() throws Exception {
+        JournalSplitStatePersister persister = open(20);
+        for (int i = 0; i < 100; i++) {
+            persister.persist(new SatelliteReading(i % 2 == 0 ? "kenobi" : "sato", i, List.of("fragmento-" + i)));
+        }
+
+        assertTrue(persister.size() <= 20);
+        persister.close();
+
+        try (var files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+        Map<String, SatelliteReading> readings = byName(open(20).load());
+        assertEquals(98.0, readings.get("kenobi").getDistance());
+        assertEquals(List.of("fragmento-99"), readings.get("sato").getMessage());
+    }
+
+    @Test
+    public void testTornRecordIsDiscardedAndOverwritten() throws Exception {
+        JournalSplitStatePersister persister = open(1000);
+        persister.persist(new SatelliteReading("kenobi", 100.0, List.of("este")));
+        persister.persist(new SatelliteReading("kenobi", 200.0, List.of("es")));
+        persister.close();
+
+        int lastRecord = JournalSplitStatePersister.HEADER_SIZE + 2 * JournalSplitStatePersister.RECORD_SIZE;
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("split-0.journal").toFile(), "rw")) {
+            file.seek(lastRecord + 8);
+            file.write(0x7F);
+        }
+
+        persister = open(1000);
+        assertEquals(100.0, persister.load().get(0).getDistance());
+        persister.persist(new SatelliteReading("kenobi", 300.0, List.of("un")));
+        persister.close();
+
+        assertEquals(300.0, open(1000).load().get(0).getDistance());
+    }
+
+    @Test
+    public void testUnfinishedCompactionIsDiscarded() throws Exception {
+        JournalSplitStatePersister persister = open(1000);
+        persister.persist(new SatelliteReading("sato", 50.0, List.of("mensaje")));
+        persister.close();
+        Files.write(directory.resolve("split-1.heap"), new byte[16]);
+        Files.write(directory.resolve("split-1.journal.tmp"), new byte[16]);
+
+        assertEquals(50.0, open(1000).load().get(0).getDistance());
+        assertFalse(Files.exists(directory.resolve("split-1.journal.tmp")));
+        assertFalse(Files.exists(directory.resolve("split-1.heap")));
+    }
+
+    private JournalSplitStatePersister open(int compactThreshold) {
+        return new JournalSplitStatePersister(directory, compactThreshold, Duration.ZERO, Thread::new);
+    }
+
+    private static Map<String, SatelliteReading> byName(List<SatelliteReading> readings) {
+        return readings.stream().collect(Collectors.toMap(SatelliteReading::getName, Function.identity()));
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.jaguzmanb1.quasar.service.split;
+
+import com.github.jaguzmanb1.quasar.entity.Satellite;
+import com.github.jaguzmanb1.quasar.repository.SatelliteRepositoryInterface;
+import com.github.jaguzmanb1.quasar.service.registry.SatelliteRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.awt.*;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RepositorySplitStatePersisterTest {
+
+    @Mock
+    private SatelliteRepositoryInterface satelliteRepository;
+
+    private RepositorySplitStatePersister persister;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        persister = new RepositorySplitStatePersister(new SatelliteRegistry(satelliteRepository),
+                List.of("kenobi", "skywalker", "sato"));
+    }
+
+    @Test
+    public void testOnlyCompleteReadingsOfSplitSatellitesAreLoaded() {
+        when(satelliteRepository.findAllByNameIn(Set.of("kenobi", "skywalker", "sato")))
+            .thenReturn(List.of(
+                new Satellite("kenobi", new Point(-500, -200), 100.0, List.of("este", "", "un")),
+                new Satellite("skywalker", new Point(100, -100), 0.0, null),
+                new Satellite("sato", new Point(500, 100), 142.7, null)
+            ));
+
+        List<SatelliteReading> readings = persister.load();
+
+        assertEquals(1, readings.size());
+        assertEquals("kenobi", readings.get(0).getName());
+        assertEquals(100.0, readings.get(0).getDistance());
+        verify(satelliteRepository, never()).findAll();
+    }
+}
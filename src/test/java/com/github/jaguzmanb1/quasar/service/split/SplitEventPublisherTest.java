@@ -0,0 +1,92 @@
+package com.github.jaguzmanb1.quasar.service.split;
+
+import com.github.jaguzmanb1.quasar.dto.TopSecretResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.awt.*;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitEventPublisherTest {
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private final SplitEventPublisher publisher = new SplitEventPublisher(() -> {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitters.add(emitter);
+        return emitter;
+    });
+
+    @Test
+    public void testCurrentSolutionIsSentOnSubscribe() {
+        publisher.subscribe(SplitEventPublisher.GLOBAL_CHANNEL, solved(3));
+        publisher.subscribe(SplitEventPublisher.GLOBAL_CHANNEL, null);
+
+        assertEquals(1, emitters.get(0).events.size());
+        assertTrue(emitters.get(0).events.get(0).contains("id:3"));
+        assertTrue(emitters.get(0).events.get(0).contains("event:solution"));
+        assertEquals(0, emitters.get(1).events.size());
+        assertEquals(2, publisher.subscriberCount(SplitEventPublisher.GLOBAL_CHANNEL));
+    }
+
+    @Test
+    public void testSolutionsAreOnlyPublishedToTheirChannel() {
+        publisher.subscribe(SplitEventPublisher.GLOBAL_CHANNEL, null);
+        publisher.subscribe("ship-1", null);
+        publisher.subscribe("ship-2", null);
+
+        publisher.publish("ship-1", solved(1));
+        publisher.publish("ship-1", SplitSolution.solve(2, 0, () -> {
+            throw new IllegalArgumentException("Missing distance for satellite: sato");
+        }));
+
+        assertEquals(0, emitters.get(0).events.size());
+        assertEquals(2, emitters.get(1).events.size());
+        assertTrue(emitters.get(1).events.get(1).contains("event:error"));
+        assertTrue(emitters.get(1).events.get(1).contains("Missing distance for satellite: sato"));
+        assertEquals(0, emitters.get(2).events.size());
+    }
+
+    @Test
+    public void testUnreachableSubscribersAreDropped() {
+        publisher.subscribe("ship-1", null);
+        publisher.subscribe("ship-1", null);
+        emitters.get(0).broken = true;
+
+        publisher.publish("ship-1", solved(1));
+
+        assertEquals(1, publisher.subscriberCount("ship-1"));
+        assertEquals(1, emitters.get(1).events.size());
+
+        emitters.get(1).broken = true;
+        publisher.publish("ship-1", solved(2));
+        assertEquals(0, publisher.subscriberCount("ship-1"));
+    }
+
+    private static SplitSolution solved(long version) {
+        return SplitSolution.solve(version, 0, () -> new TopSecretResponseDTO(new Point(-100, 75), "este es un mensaje"));
+    }
+
+    /**
+     * Emitter that keeps the text of every event sent to it instead of writing to a response.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+        private boolean broken;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("Broken pipe");
+            }
+            events.add(builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.jaguzmanb1.quasar.service.split;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitSessionTableTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    public void testSessionsAreIsolated() {
+        SplitSessionTable table = new SplitSessionTable(10, Duration.ofSeconds(60), now::get);
+
+        table.getOrCreate("ship-1").update(new SatelliteReading("kenobi", 100.0, List.of("este")));
+
+        assertTrue(table.getOrCreate("ship-1").snapshot().containsAll(List.of("kenobi")));
+        assertFalse(table.getOrCreate("ship-2").snapshot().containsAll(List.of("kenobi")));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    public void testExpiredSessionsAreEvicted() {
+        SplitSessionTable table = new SplitSessionTable(10, Duration.ofSeconds(60), now::get);
+        SplitSession session = table.getOrCreate("ship-1");
+
+        now.set(Duration.ofSeconds(30).toNanos());
+        assertSame(session, table.find("ship-1").orElseThrow());
+
+        now.set(Duration.ofSeconds(89).toNanos());
+        assertTrue(table.find("ship-1").isPresent());
+
+        now.set(Duration.ofSeconds(150).toNanos());
+        assertFalse(table.find("ship-1").isPresent());
+        assertNotSame(session, table.getOrCreate("ship-1"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedSessionIsEvictedWhenFull() {
+        SplitSessionTable table = new SplitSessionTable(2, Duration.ofSeconds(60), now::get);
+        table.getOrCreate("ship-1");
+        table.getOrCreate("ship-2");
+        table.find("ship-1");
+
+        table.getOrCreate("ship-3");
+
+        assertEquals(2, table.size());
+        assertTrue(table.find("ship-1").isPresent());
+        assertFalse(table.find("ship-2").isPresent());
+        assertTrue(table.find("ship-3").isPresent());
+    }
+}
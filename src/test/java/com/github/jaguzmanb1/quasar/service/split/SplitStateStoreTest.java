@@ -0,0 +1,85 @@
+package com.github.jaguzmanb1.quasar.service.split;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class SplitStateStoreTest {
+
+    private final Map<String, SatelliteReading> persisted = new ConcurrentHashMap<>();
+
+    private final SplitStatePersisterInterface persister = new SplitStatePersisterInterface() {
+        @Override
+        public void persist(SatelliteReading reading) {
+            persisted.put(reading.getName(), reading);
+        }
+
+        @Override
+        public List<SatelliteReading> load() {
+            return List.of(new SatelliteReading("kenobi", 1.0, List.of("este")));
+        }
+    };
+
+    @Test
+    public void testOnlyTheLatestQueuedReadingIsPersisted() {
+        List<Runnable> tasks = new ArrayList<>();
+        SplitStateStore store = new SplitStateStore(persister, tasks::add);
+
+        store.update("kenobi", 100.0, List.of("este"));
+        store.update("kenobi", 200.0, List.of("es"));
+        store.update("sato", 300.0, List.of("un"));
+        tasks.forEach(Runnable::run);
+
+        assertEquals(2, tasks.size());
+        assertEquals(200.0, persisted.get("kenobi").getDistance());
+        assertEquals(300.0, persisted.get("sato").getDistance());
+    }
+
+    @Test
+    public void testLoadDoesNotOverwriteNewerReadings() {
+        SplitStateStore store = new SplitStateStore(persister, Runnable::run);
+        store.update("kenobi", 100.0, List.of("mensaje"));
+
+        store.initialize();
+
+        assertEquals(100.0, store.snapshot().get("kenobi").getDistance());
+    }
+
+    @Test
+    public void testConcurrentUpdatesPersistTheReadingHeldInMemory() throws Exception {
+        ExecutorService persistence = Executors.newSingleThreadExecutor();
+        SplitStateStore store = new SplitStateStore(persister, persistence);
+        ExecutorService writers = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            futures.add(writers.submit(() -> {
+                start.await();
+                for (int i = 0; i < 2000; i++) {
+                    store.update("kenobi", thread * 10000 + i, List.of("este"));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        writers.shutdown();
+        store.close();
+
+        assertSame(store.snapshot().get("kenobi"), persisted.get("kenobi"));
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.jaguzmanb1.quasar.service.track;
+
+import com.github.jaguzmanb1.quasar.exception.InvalidIntersectionException;
+import com.github.jaguzmanb1.quasar.service.location.LocationEstimate;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShipTrackTableTest {
+
+    private static final double[] XS = {-500, 100, 500};
+    private static final double[] YS = {-200, -100, 100};
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    public void testTrackFollowsAShipMovingAtConstantVelocity() {
+        ShipTrackTable table = table(10);
+
+        TrackEstimate estimate = null;
+        for (int second = 0; second <= 30; second++) {
+            now.set(Duration.ofSeconds(second).toNanos());
+            estimate = update(table, "ship-1", -100 + 10 * second, 75 - 5 * second);
+        }
+
+        assertEquals(200.0, estimate.getX(), 1.0);
+        assertEquals(-75.0, estimate.getY(), 1.0);
+        assertEquals(10.0, estimate.getVelocityX(), 0.5);
+        assertEquals(-5.0, estimate.getVelocityY(), 0.5);
+        assertEquals(3, estimate.getAccepted());
+    }
+
+    @Test
+    public void testInconsistentRangeIsRejectedWithoutFailingTheUpdate() {
+        ShipTrackTable table = table(10);
+        for (int second = 0; second <= 5; second++) {
+            now.set(Duration.ofSeconds(second).toNanos());
+            update(table, "ship-1", -100, 75);
+        }
+
+        now.set(Duration.ofSeconds(6).toNanos());
+        double[] distances = distances(-100, 75);
+        distances[1] += 500;
+        TrackEstimate estimate = table.update("ship-1", XS, YS, distances, 3, () -> {
+            throw new InvalidIntersectionException("Error - Indeterminate position...",
+                    InvalidIntersectionException.Reason.NO_INTERSECTION);
+        });
+
+        assertEquals(2, estimate.getAccepted());
+        assertEquals(1, estimate.getRejected());
+        assertEquals(-100.0, estimate.getX(), 1.0);
+        assertEquals(75.0, estimate.getY(), 1.0);
+    }
+
+    @Test
+    public void testTrackIsRestartedWhenEveryRangeIsRejected() {
+        ShipTrackTable table = table(10);
+        for (int second = 0; second <= 5; second++) {
+            now.set(Duration.ofSeconds(second).toNanos());
+            update(table, "ship-1", -100, 75);
+        }
+
+        now.set(Duration.ofSeconds(6).toNanos());
+        TrackEstimate estimate = update(table, "ship-1", 400, -300);
+
+        assertEquals(400.0, estimate.getX(), 1e-9);
+        assertEquals(-300.0, estimate.getY(), 1e-9);
+        assertEquals(0.0, estimate.getVelocityX());
+        assertEquals(3, estimate.getAccepted());
+    }
+
+    @Test
+    public void testStartingATrackRequiresASolvableFix() {
+        ShipTrackTable table = table(10);
+
+        assertThrows(InvalidIntersectionException.class, () -> table.update("ship-1", XS, YS, distances(0, 0), 3,
+                () -> {
+                    throw new InvalidIntersectionException("Error - Indeterminate position...",
+                            InvalidIntersectionException.Reason.NO_INTERSECTION);
+                }));
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    public void testSolvingAnInitialFixDoesNotBlockOtherShips() throws Exception {
+        ShipTrackTable table = table(10);
+        update(table, "ship-2", 0, 0);
+        CountDownLatch solving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<TrackEstimate> started = CompletableFuture.supplyAsync(() ->
+                table.update("ship-1", XS, YS, distances(-100, 75), 3, () -> {
+                    solving.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return new LocationEstimate(-100, 75, 0.0, 0);
+                }));
+        assertTrue(solving.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<TrackEstimate> other = CompletableFuture.supplyAsync(() -> update(table, "ship-2", 0, 0));
+        assertEquals(3, other.get(5, TimeUnit.SECONDS).getAccepted());
+
+        release.countDown();
+        assertEquals(-100.0, started.get(5, TimeUnit.SECONDS).getX(), 1e-9);
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    public void testExpiredAndLeastRecentlyUpdatedTracksAreEvicted() {
+        ShipTrackTable table = table(2);
+        update(table, "ship-1", 0, 0);
+        update(table, "ship-2", 0, 0);
+        update(table, "ship-1", 0, 0);
+        update(table, "ship-3", 0, 0);
+
+        assertEquals(2, table.size());
+        assertEquals(false, table.remove("ship-2"));
+
+        now.set(Duration.ofSeconds(61).toNanos());
+        assertEquals(0, table.size());
+    }
+
+    private ShipTrackTable table(int maxShips) {
+        return new ShipTrackTable(maxShips, Duration.ofSeconds(60), 1.0, 0.5, 4.0, 50.0, now::get);
+    }
+
+    private static TrackEstimate update(ShipTrackTable table, String shipId, double x, double y) {
+        return table.update(shipId, XS, YS, distances(x, y), 3, () -> new LocationEstimate(x, y, 0.0, 0));
+    }
+
+    private static double[] distances(double x, double y) {
+        double[] distances = new double[XS.length];
+        for (int i = 0; i < XS.length; i++) {
+            distances[i] = Math.hypot(XS[i] - x, YS[i] - y);
+        }
+        return distances;
+    }
+}